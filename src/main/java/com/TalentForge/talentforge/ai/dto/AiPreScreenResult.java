@@ -0,0 +1,9 @@
+package com.TalentForge.talentforge.ai.dto;
+
+public record AiPreScreenResult(
+        double score,
+        String matchingKeywords,
+        int matchedTerms,
+        int jobTerms
+) {
+}
@@ -0,0 +1,18 @@
+package com.TalentForge.talentforge.ai.dto;
+
+public record AiScoreOptions(
+        String cacheScope,
+        boolean bypassCache
+) {
+    public static AiScoreOptions defaults() {
+        return new AiScoreOptions(null, false);
+    }
+
+    public static AiScoreOptions forJob(Long jobId, boolean bypassCache) {
+        return new AiScoreOptions(jobId == null ? null : jobCacheScope(jobId), bypassCache);
+    }
+
+    public static String jobCacheScope(Long jobId) {
+        return "job:" + jobId;
+    }
+}
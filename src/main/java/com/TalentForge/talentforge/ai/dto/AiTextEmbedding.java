@@ -0,0 +1,7 @@
+package com.TalentForge.talentforge.ai.dto;
+
+public record AiTextEmbedding(
+        String contentHash,
+        float[] vector
+) {
+}
@@ -0,0 +1,48 @@
+package com.TalentForge.talentforge.ai.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "resume_text_cache")
+public class ResumeTextCacheEntry {
+
+    @Id
+    @Column(length = 64)
+    private String contentHash;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String extractedText;
+
+    @Column(nullable = false)
+    private Integer charCount;
+
+    @Column(nullable = false)
+    private Long byteSize;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long hitCount = 0L;
+
+    @Column(nullable = false)
+    private LocalDateTime lastAccessedAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
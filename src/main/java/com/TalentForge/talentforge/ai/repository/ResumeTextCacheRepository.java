@@ -0,0 +1,42 @@
+package com.TalentForge.talentforge.ai.repository;
+
+import com.TalentForge.talentforge.ai.entity.ResumeTextCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface ResumeTextCacheRepository extends JpaRepository<ResumeTextCacheEntry, String> {
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE ResumeTextCacheEntry e
+            SET e.hitCount = e.hitCount + 1, e.lastAccessedAt = :accessedAt
+            WHERE e.contentHash = :contentHash
+            """)
+    int recordHit(@Param("contentHash") String contentHash, @Param("accessedAt") LocalDateTime accessedAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO resume_text_cache (content_hash, extracted_text, char_count, byte_size, hit_count, last_accessed_at, created_at)
+            VALUES (:contentHash, :extractedText, :charCount, :byteSize, 0, :now, :now)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("contentHash") String contentHash,
+            @Param("extractedText") String extractedText,
+            @Param("charCount") int charCount,
+            @Param("byteSize") long byteSize,
+            @Param("now") LocalDateTime now
+    );
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ResumeTextCacheEntry e WHERE e.lastAccessedAt < :cutoff")
+    int deleteNotAccessedSince(@Param("cutoff") LocalDateTime cutoff);
+}
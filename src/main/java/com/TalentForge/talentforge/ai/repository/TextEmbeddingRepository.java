@@ -0,0 +1,28 @@
+package com.TalentForge.talentforge.ai.repository;
+
+import com.TalentForge.talentforge.ai.entity.TextEmbedding;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface TextEmbeddingRepository extends JpaRepository<TextEmbedding, String> {
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO text_embeddings (content_hash, model, dimensions, embedding, created_at)
+            VALUES (:contentHash, :model, :dimensions, :embedding, :now)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("contentHash") String contentHash,
+            @Param("model") String model,
+            @Param("dimensions") int dimensions,
+            @Param("embedding") byte[] embedding,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -1,11 +1,25 @@
 package com.TalentForge.talentforge.ai.service;
 
 import com.TalentForge.talentforge.ai.dto.AiResumeScoreResult;
+import com.TalentForge.talentforge.ai.dto.AiScoreOptions;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
 
 public interface AiAssistantService {
     String checkJobBias(String title, String description, String requirements);
 
     AiResumeScoreResult scoreResume(String jobText, String resumeText);
 
+    AiResumeScoreResult scoreResume(String jobText, String resumeText, AiScoreOptions options);
+
+    List<AiResumeScoreResult> scoreResumes(String jobText, List<String> resumeTexts, AiScoreOptions options);
+
+    AiResumeScoreResult scoreResumeSemantic(String jobText, String resumeText);
+
+    int invalidateScoreCache(String cacheScope);
+
     String generateChatReply(String message);
+
+    Flux<String> streamChatReply(String message);
 }
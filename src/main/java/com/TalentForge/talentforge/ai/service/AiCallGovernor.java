@@ -0,0 +1,395 @@
+package com.TalentForge.talentforge.ai.service;
+
+import com.TalentForge.talentforge.common.exception.AiServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+public class AiCallGovernor {
+
+    private final MeterRegistry meterRegistry;
+    private final AdaptiveLimiter limiter;
+    private final Map<AiCallType, CircuitBreaker> circuitBreakers = new EnumMap<>(AiCallType.class);
+    private final Map<AiCallType, ThreadPoolExecutor> lanes = new EnumMap<>(AiCallType.class);
+
+    public AiCallGovernor(
+            MeterRegistry meterRegistry,
+            @Value("${app.ai.limiter.initial-limit:4}") int initialLimit,
+            @Value("${app.ai.limiter.min-limit:1}") int minLimit,
+            @Value("${app.ai.limiter.max-limit:8}") int maxLimit,
+            @Value("${app.ai.limiter.slow-call-ratio:0.5}") double slowCallRatio,
+            @Value("${app.ai.limiter.interactive-reserve:1}") int interactiveReserve,
+            @Value("${app.ai.circuit.failure-threshold:3}") int failureThreshold,
+            @Value("${app.ai.failure-cooldown-ms:45000}") long openDurationMs,
+            @Value("${app.ai.circuit.half-open-probes:1}") int halfOpenProbes,
+            @Value("${app.ai.lanes.chat.concurrency:2}") int chatConcurrency,
+            @Value("${app.ai.lanes.chat.queue-capacity:20}") int chatQueueCapacity,
+            @Value("${app.ai.lanes.bias.concurrency:1}") int biasConcurrency,
+            @Value("${app.ai.lanes.bias.queue-capacity:20}") int biasQueueCapacity,
+            @Value("${app.ai.lanes.score.concurrency:2}") int scoreConcurrency,
+            @Value("${app.ai.lanes.score.queue-capacity:100}") int scoreQueueCapacity,
+            @Value("${app.ai.lanes.embedding.concurrency:2}") int embeddingConcurrency,
+            @Value("${app.ai.lanes.embedding.queue-capacity:200}") int embeddingQueueCapacity
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.limiter = new AdaptiveLimiter(initialLimit, minLimit, maxLimit, slowCallRatio, interactiveReserve);
+        for (AiCallType type : AiCallType.values()) {
+            circuitBreakers.put(type, new CircuitBreaker(type, failureThreshold, openDurationMs, halfOpenProbes));
+        }
+        lanes.put(AiCallType.CHAT, newLane(AiCallType.CHAT, chatConcurrency, chatQueueCapacity));
+        lanes.put(AiCallType.BIAS, newLane(AiCallType.BIAS, biasConcurrency, biasQueueCapacity));
+        lanes.put(AiCallType.SCORE, newLane(AiCallType.SCORE, scoreConcurrency, scoreQueueCapacity));
+        lanes.put(AiCallType.EMBEDDING, newLane(AiCallType.EMBEDDING, embeddingConcurrency, embeddingQueueCapacity));
+
+        meterRegistry.gauge("talentforge.ai.limiter.limit", limiter, AdaptiveLimiter::limit);
+        meterRegistry.gauge("talentforge.ai.limiter.in_flight", limiter, AdaptiveLimiter::inFlight);
+        lanes.forEach((type, lane) -> {
+            String laneName = type.name().toLowerCase(Locale.ROOT);
+            meterRegistry.gauge("talentforge.ai.circuit.state", Tags.of("lane", laneName), circuitBreakers.get(type), breaker -> breaker.state().ordinal());
+            meterRegistry.gauge("talentforge.ai.lane.queue_depth", Tags.of("lane", laneName), lane, executor -> executor.getQueue().size());
+            meterRegistry.gauge("talentforge.ai.lane.active", Tags.of("lane", laneName), lane, ThreadPoolExecutor::getActiveCount);
+        });
+    }
+
+    public String call(AiCallType type, long timeoutMs, int maxRetries, Supplier<String> request) {
+        return call(type, timeoutMs, maxRetries, request, response -> response != null && !response.isBlank()).trim();
+    }
+
+    public <T> T call(AiCallType type, long timeoutMs, int maxRetries, Supplier<T> request, Predicate<T> usable) {
+        int attempts = Math.max(1, maxRetries);
+        long timeout = Math.max(1000L, timeoutMs);
+        CircuitBreaker circuitBreaker = circuitBreakers.get(type);
+        RuntimeException lastFailure = null;
+
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            if (!circuitBreaker.tryAcquire()) {
+                record(type, "circuit_open", 0L);
+                throw new AiServiceUnavailableException("AI temporarily cooling down after recent failures");
+            }
+
+            long queuedAt = System.nanoTime();
+            CountDownLatch started = new CountDownLatch(1);
+            Future<T> future;
+            try {
+                future = lanes.get(type).submit(() -> invoke(type, timeout, request, usable, started));
+            } catch (RejectedExecutionException ex) {
+                circuitBreaker.onIgnored();
+                record(type, "rejected", 0L);
+                throw saturated(type);
+            }
+
+            long startedAt = queuedAt;
+            try {
+                if (!started.await(timeout, TimeUnit.MILLISECONDS)) {
+                    future.cancel(true);
+                    circuitBreaker.onIgnored();
+                    record(type, "queue_timeout", System.nanoTime() - queuedAt);
+                    throw saturated(type);
+                }
+                startedAt = System.nanoTime();
+
+                T response = future.get(timeout, TimeUnit.MILLISECONDS);
+                if (usable.test(response)) {
+                    circuitBreaker.onSuccess();
+                    record(type, "success", System.nanoTime() - startedAt);
+                    return response;
+                }
+                circuitBreaker.onFailure();
+                record(type, "empty", System.nanoTime() - startedAt);
+                lastFailure = new RuntimeException("AI returned an empty response on attempt " + attempt);
+            } catch (TimeoutException ex) {
+                future.cancel(true);
+                circuitBreaker.onFailure();
+                record(type, "timeout", System.nanoTime() - startedAt);
+                lastFailure = new RuntimeException("AI call timed out on attempt " + attempt, ex);
+            } catch (InterruptedException ex) {
+                future.cancel(true);
+                circuitBreaker.onIgnored();
+                Thread.currentThread().interrupt();
+                throw new AiServiceUnavailableException("AI call interrupted", ex);
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof LimiterSaturatedException) {
+                    circuitBreaker.onIgnored();
+                    record(type, "rejected", System.nanoTime() - queuedAt);
+                    throw saturated(type);
+                }
+                circuitBreaker.onFailure();
+                record(type, "error", System.nanoTime() - startedAt);
+                lastFailure = new RuntimeException("AI call failed on attempt " + attempt, ex.getCause());
+            }
+        }
+
+        throw lastFailure == null ? new RuntimeException("AI call failed") : lastFailure;
+    }
+
+    public Flux<String> stream(AiCallType type, long firstTokenTimeoutMs, long idleTimeoutMs, Supplier<Flux<String>> request) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(type);
+        return Flux.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                record(type, "circuit_open", 0L);
+                return Flux.error(new AiServiceUnavailableException("AI temporarily cooling down after recent failures"));
+            }
+            if (!limiter.tryAcquire(type.isInteractive())) {
+                circuitBreaker.onIgnored();
+                record(type, "rejected", 0L);
+                return Flux.error(new AiServiceUnavailableException("AI is at capacity, retry shortly"));
+            }
+
+            long firstTokenTimeout = Math.max(1000L, firstTokenTimeoutMs);
+            long startedAt = System.nanoTime();
+            AtomicLong firstTokenNanos = new AtomicLong(-1);
+            return Flux.defer(request)
+                    .timeout(
+                            Mono.delay(Duration.ofMillis(firstTokenTimeout)),
+                            token -> Mono.delay(Duration.ofMillis(Math.max(1000L, idleTimeoutMs)))
+                    )
+                    .doOnNext(token -> {
+                        if (firstTokenNanos.compareAndSet(-1, System.nanoTime() - startedAt)) {
+                            meterRegistry.timer("talentforge.ai.stream.first_token", "lane", type.name().toLowerCase(Locale.ROOT))
+                                    .record(firstTokenNanos.get(), TimeUnit.NANOSECONDS);
+                        }
+                    })
+                    .doFinally(signal -> {
+                        boolean streamed = firstTokenNanos.get() >= 0;
+                        String outcome = switch (signal) {
+                            case ON_COMPLETE -> streamed ? "success" : "empty";
+                            case CANCEL -> "cancelled";
+                            default -> "error";
+                        };
+                        if ("success".equals(outcome)) {
+                            circuitBreaker.onSuccess();
+                        } else if ("cancelled".equals(outcome)) {
+                            circuitBreaker.onIgnored();
+                        } else {
+                            circuitBreaker.onFailure();
+                        }
+                        long latencyNanos = streamed ? firstTokenNanos.get() : System.nanoTime() - startedAt;
+                        limiter.release(streamed, TimeUnit.NANOSECONDS.toMillis(latencyNanos), firstTokenTimeout);
+                        record(type, "stream_" + outcome, System.nanoTime() - startedAt);
+                    });
+        });
+    }
+
+    private <T> T invoke(AiCallType type, long timeoutMs, Supplier<T> request, Predicate<T> usable, CountDownLatch started) throws InterruptedException {
+        boolean acquired;
+        try {
+            acquired = limiter.acquire(type.isInteractive(), timeoutMs);
+        } finally {
+            started.countDown();
+        }
+        if (!acquired) {
+            throw new LimiterSaturatedException();
+        }
+
+        long startedAt = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            T response = request.get();
+            succeeded = usable.test(response);
+            return response;
+        } finally {
+            limiter.release(succeeded, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), timeoutMs);
+        }
+    }
+
+    private AiServiceUnavailableException saturated(AiCallType type) {
+        return new AiServiceUnavailableException("AI " + type.name().toLowerCase(Locale.ROOT) + " lane is saturated, retry shortly");
+    }
+
+    private void record(AiCallType type, String outcome, long durationNanos) {
+        Timer.builder("talentforge.ai.calls")
+                .tag("lane", type.name().toLowerCase(Locale.ROOT))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private ThreadPoolExecutor newLane(AiCallType type, int concurrency, int queueCapacity) {
+        int poolSize = Math.max(1, concurrency);
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        String prefix = "tf-ai-" + type.name().toLowerCase(Locale.ROOT) + "-";
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, prefix + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void shutdownLanes() {
+        lanes.values().forEach(ThreadPoolExecutor::shutdownNow);
+    }
+
+    private enum CircuitState {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private static final class LimiterSaturatedException extends RuntimeException {
+        private LimiterSaturatedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class CircuitBreaker {
+        private final AiCallType type;
+        private final int failureThreshold;
+        private final long openDurationMs;
+        private final int halfOpenProbes;
+        private CircuitState state = CircuitState.CLOSED;
+        private int consecutiveFailures = 0;
+        private int probesInFlight = 0;
+        private long openUntilEpochMs = 0;
+
+        private CircuitBreaker(AiCallType type, int failureThreshold, long openDurationMs, int halfOpenProbes) {
+            this.type = type;
+            this.failureThreshold = Math.max(1, failureThreshold);
+            this.openDurationMs = Math.max(1000L, openDurationMs);
+            this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        }
+
+        private synchronized boolean tryAcquire() {
+            if (state == CircuitState.OPEN) {
+                if (System.currentTimeMillis() < openUntilEpochMs) {
+                    return false;
+                }
+                transition(CircuitState.HALF_OPEN);
+            }
+            if (state == CircuitState.HALF_OPEN) {
+                if (probesInFlight >= halfOpenProbes) {
+                    return false;
+                }
+                probesInFlight++;
+            }
+            return true;
+        }
+
+        private synchronized void onSuccess() {
+            consecutiveFailures = 0;
+            if (state == CircuitState.HALF_OPEN) {
+                transition(CircuitState.CLOSED);
+            }
+        }
+
+        private synchronized void onFailure() {
+            consecutiveFailures++;
+            if (state == CircuitState.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                openUntilEpochMs = System.currentTimeMillis() + openDurationMs;
+                transition(CircuitState.OPEN);
+            }
+        }
+
+        private synchronized void onIgnored() {
+            if (state == CircuitState.HALF_OPEN && probesInFlight > 0) {
+                probesInFlight--;
+            }
+        }
+
+        private synchronized CircuitState state() {
+            return state;
+        }
+
+        private void transition(CircuitState next) {
+            if (state != next) {
+                log.info("AI {} circuit breaker {} -> {}", type, state, next);
+            }
+            state = next;
+            probesInFlight = 0;
+        }
+    }
+
+    private static final class AdaptiveLimiter {
+        private final int minLimit;
+        private final int maxLimit;
+        private final double slowCallRatio;
+        private final int interactiveReserve;
+        private double limit;
+        private int inFlight = 0;
+
+        private AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, double slowCallRatio, int interactiveReserve) {
+            this.minLimit = Math.max(1, minLimit);
+            this.maxLimit = Math.max(this.minLimit, maxLimit);
+            this.slowCallRatio = Math.max(0.1, Math.min(1.0, slowCallRatio));
+            this.interactiveReserve = Math.max(0, interactiveReserve);
+            this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+        }
+
+        private synchronized boolean acquire(boolean interactive, long maxWaitMs) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + maxWaitMs;
+            while (inFlight >= permitted(interactive)) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                wait(remaining);
+            }
+            inFlight++;
+            return true;
+        }
+
+        private synchronized boolean tryAcquire(boolean interactive) {
+            if (inFlight >= permitted(interactive)) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        }
+
+        private synchronized void release(boolean succeeded, long latencyMs, long timeoutMs) {
+            inFlight--;
+            if (succeeded && latencyMs <= timeoutMs * slowCallRatio) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            } else {
+                limit = Math.max(minLimit, limit * 0.75);
+            }
+            notifyAll();
+        }
+
+        private int permitted(boolean interactive) {
+            int current = (int) Math.floor(limit);
+            return interactive ? current : Math.max(1, current - interactiveReserve);
+        }
+
+        private synchronized double limit() {
+            return limit;
+        }
+
+        private synchronized int inFlight() {
+            return inFlight;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.TalentForge.talentforge.ai.service;
+
+public enum AiCallType {
+    CHAT(true),
+    BIAS(true),
+    SCORE(false),
+    EMBEDDING(false);
+
+    private final boolean interactive;
+
+    AiCallType(boolean interactive) {
+        this.interactive = interactive;
+    }
+
+    public boolean isInteractive() {
+        return interactive;
+    }
+}
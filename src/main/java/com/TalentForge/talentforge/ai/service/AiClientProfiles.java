@@ -0,0 +1,56 @@
+package com.TalentForge.talentforge.ai.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.ollama.api.OllamaChatOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+@Slf4j
+public class AiClientProfiles {
+
+    private final Map<AiCallType, ChatClient> clients = new EnumMap<>(AiCallType.class);
+    private final Map<AiCallType, String> models = new EnumMap<>(AiCallType.class);
+
+    public AiClientProfiles(
+            ChatClient.Builder chatClientBuilder,
+            @Value("${spring.ai.ollama.chat.options.model:llama3.2:latest}") String defaultModel,
+            @Value("${spring.ai.ollama.chat.options.temperature:0.2}") double defaultTemperature,
+            @Value("${app.ai.profiles.score.model:}") String scoreModel,
+            @Value("${app.ai.profiles.score.temperature:}") Double scoreTemperature,
+            @Value("${app.ai.profiles.bias.model:}") String biasModel,
+            @Value("${app.ai.profiles.bias.temperature:}") Double biasTemperature,
+            @Value("${app.ai.profiles.chat.model:}") String chatModel,
+            @Value("${app.ai.profiles.chat.temperature:}") Double chatTemperature
+    ) {
+        register(chatClientBuilder, AiCallType.SCORE, pick(scoreModel, defaultModel), scoreTemperature == null ? defaultTemperature : scoreTemperature);
+        register(chatClientBuilder, AiCallType.BIAS, pick(biasModel, defaultModel), biasTemperature == null ? defaultTemperature : biasTemperature);
+        register(chatClientBuilder, AiCallType.CHAT, pick(chatModel, defaultModel), chatTemperature == null ? defaultTemperature : chatTemperature);
+    }
+
+    public ChatClient client(AiCallType type) {
+        return clients.get(type);
+    }
+
+    public String model(AiCallType type) {
+        return models.get(type);
+    }
+
+    private void register(ChatClient.Builder chatClientBuilder, AiCallType type, String model, double temperature) {
+        OllamaChatOptions options = OllamaChatOptions.builder()
+                .model(model)
+                .temperature(temperature)
+                .build();
+        clients.put(type, chatClientBuilder.clone().defaultOptions(options).build());
+        models.put(type, model);
+        log.debug("AI profile {} uses model={} temperature={}", type, model, temperature);
+    }
+
+    private String pick(String value, String fallback) {
+        return value == null || value.isBlank() ? fallback : value.trim();
+    }
+}
@@ -0,0 +1,68 @@
+package com.TalentForge.talentforge.ai.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class AiPromptTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([a-zA-Z][a-zA-Z0-9]*)}");
+
+    private final String version;
+    private final String[] literals;
+    private final List<String> placeholders;
+    private final int literalLength;
+
+    private AiPromptTemplate(String version, String[] literals, List<String> placeholders) {
+        this.version = version;
+        this.literals = literals;
+        this.placeholders = List.copyOf(placeholders);
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static AiPromptTemplate compile(String version, String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        int position = 0;
+        while (matcher.find()) {
+            literals.add(template.substring(position, matcher.start()));
+            placeholders.add(matcher.group(1));
+            position = matcher.end();
+        }
+        literals.add(template.substring(position));
+        return new AiPromptTemplate(version, literals.toArray(String[]::new), placeholders);
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public List<String> placeholders() {
+        return placeholders;
+    }
+
+    public String render(String... values) {
+        if (values.length != placeholders.size()) {
+            throw new IllegalArgumentException("Prompt " + version + " expects " + placeholders.size() + " values but got " + values.length);
+        }
+
+        int capacity = literalLength;
+        for (String value : values) {
+            capacity += value == null ? 0 : value.length();
+        }
+        StringBuilder builder = new StringBuilder(capacity);
+        for (int i = 0; i < values.length; i++) {
+            builder.append(literals[i]);
+            if (values[i] != null) {
+                builder.append(values[i]);
+            }
+        }
+        return builder.append(literals[values.length]).toString();
+    }
+}
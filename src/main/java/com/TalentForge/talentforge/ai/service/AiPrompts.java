@@ -0,0 +1,83 @@
+package com.TalentForge.talentforge.ai.service;
+
+public final class AiPrompts {
+
+    public static final AiPromptTemplate BIAS = AiPromptTemplate.compile("bias-v1", """
+            You are Talentforge hiring fairness assistant.
+            Review the job post below and return:
+            1) Risk level (LOW, MEDIUM, HIGH)
+            2) Specific biased phrases
+            3) Inclusive rewrite suggestions
+
+            Title: {title}
+            Description: {description}
+            Requirements: {requirements}
+            """);
+
+    public static final AiPromptTemplate SCORE = AiPromptTemplate.compile("score-v1", """
+            You are Talentforge resume scoring assistant.
+            Score candidate fit from 0 to 100.
+
+            Scoring rubric:
+            - Skill alignment with requirements (40%)
+            - Relevant experience evidence (30%)
+            - Domain/context relevance (20%)
+            - Communication clarity (10%)
+
+            Return ONLY valid JSON in this exact shape:
+            {
+              "score": 0,
+              "skills": ["skill one", "skill two"],
+              "reasoning": "one concise paragraph",
+              "strengths": ["optional"],
+              "gaps": ["optional"]
+            }
+
+            JOB DESCRIPTION:
+            {jobText}
+
+            CANDIDATE PROFILE:
+            {candidateText}
+            """);
+
+    public static final AiPromptTemplate SCORE_BATCH = AiPromptTemplate.compile("score-batch-v1", """
+            You are Talentforge resume scoring assistant.
+            Score each candidate's fit for the job independently from 0 to 100.
+            Do not compare candidates with each other.
+
+            Scoring rubric:
+            - Skill alignment with requirements (40%)
+            - Relevant experience evidence (30%)
+            - Domain/context relevance (20%)
+            - Communication clarity (10%)
+
+            Return ONLY valid JSON in this exact shape, with one entry per candidate id:
+            {
+              "results": [
+                {
+                  "id": "C1",
+                  "score": 0,
+                  "skills": ["skill one", "skill two"],
+                  "reasoning": "one concise paragraph",
+                  "strengths": ["optional"],
+                  "gaps": ["optional"]
+                }
+              ]
+            }
+
+            JOB DESCRIPTION:
+            {jobText}
+
+            CANDIDATES:
+            {candidates}
+            """);
+
+    public static final AiPromptTemplate CHAT = AiPromptTemplate.compile("chat-v1", """
+            You are Talentforge assistant for candidates and recruiters.
+            Keep answers practical and concise.
+            User message: {message}
+            """);
+
+    private AiPrompts() {
+    }
+}
@@ -0,0 +1,156 @@
+package com.TalentForge.talentforge.ai.service;
+
+import com.TalentForge.talentforge.ai.dto.AiResumeScoreResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+@Component
+public class AiScoreCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final boolean enabled;
+    private final long ttlMs;
+    private final int maxEntries;
+    private final Map<String, CachedScore> entries;
+    private final Map<String, Set<String>> keysByScope = new HashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter invalidations;
+
+    public AiScoreCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.ai.score-cache.enabled:true}") boolean enabled,
+            @Value("${app.ai.score-cache.max-entries:2000}") int maxEntries,
+            @Value("${app.ai.score-cache.ttl-minutes:1440}") long ttlMinutes
+    ) {
+        this.enabled = enabled;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.ttlMs = Math.max(1, ttlMinutes) * 60_000L;
+        this.entries = new LinkedHashMap<>(Math.min(this.maxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedScore> eldest) {
+                if (size() <= AiScoreCache.this.maxEntries) {
+                    return false;
+                }
+                unindex(eldest.getKey(), eldest.getValue().scope());
+                evictions.increment();
+                return true;
+            }
+        };
+        this.hits = meterRegistry.counter("talentforge.ai.score_cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("talentforge.ai.score_cache.requests", "result", "miss");
+        this.evictions = meterRegistry.counter("talentforge.ai.score_cache.evictions");
+        this.invalidations = meterRegistry.counter("talentforge.ai.score_cache.invalidations");
+        meterRegistry.gauge("talentforge.ai.score_cache.entries", this, cache -> cache.size());
+    }
+
+    public String fingerprint(String promptVersion, String model, String jobText, String candidateText) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : new String[]{promptVersion, model, normalize(jobText), normalize(candidateText)}) {
+                digest.update((part == null ? "" : part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    public synchronized Optional<AiResumeScoreResult> get(String key) {
+        if (!enabled || key == null) {
+            return Optional.empty();
+        }
+
+        CachedScore cached = entries.get(key);
+        if (cached == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        if (cached.expiresAtEpochMs() < System.currentTimeMillis()) {
+            entries.remove(key);
+            unindex(key, cached.scope());
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        return Optional.of(cached.result());
+    }
+
+    public synchronized void put(String key, String scope, AiResumeScoreResult result) {
+        if (!enabled || key == null || result == null) {
+            return;
+        }
+
+        CachedScore previous = entries.put(key, new CachedScore(result, scope, System.currentTimeMillis() + ttlMs));
+        if (previous != null && previous.scope() != null && !previous.scope().equals(scope)) {
+            unindex(key, previous.scope());
+        }
+        if (scope != null) {
+            keysByScope.computeIfAbsent(scope, ignored -> new HashSet<>()).add(key);
+        }
+    }
+
+    public synchronized int invalidateScope(String scope) {
+        if (scope == null) {
+            return 0;
+        }
+
+        Set<String> keys = keysByScope.remove(scope);
+        if (keys == null) {
+            return 0;
+        }
+        keys.forEach(entries::remove);
+        invalidations.increment(keys.size());
+        return keys.size();
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private void unindex(String key, String scope) {
+        if (scope == null) {
+            return;
+        }
+        Set<String> keys = keysByScope.get(scope);
+        if (keys == null) {
+            return;
+        }
+        keys.remove(key);
+        if (keys.isEmpty()) {
+            keysByScope.remove(scope);
+        }
+    }
+
+    private String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(value).replaceAll(" ").trim();
+    }
+
+    private record CachedScore(
+            AiResumeScoreResult result,
+            String scope,
+            long expiresAtEpochMs
+    ) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.TalentForge.talentforge.ai.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/** Coalesces concurrent identical AI requests onto one in-flight call; nothing is cached once it completes. */
+@Component
+public class AiSingleFlight {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public AiSingleFlight(
+            MeterRegistry meterRegistry,
+            @Value("${app.ai.single-flight.enabled:true}") boolean enabled
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        meterRegistry.gauge("talentforge.ai.single_flight.in_flight", inFlight, Map::size);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(AiCallType type, String fingerprint, Supplier<T> request) {
+        if (!enabled || fingerprint == null) {
+            return request.get();
+        }
+
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(fingerprint, created);
+        String lane = type.name().toLowerCase(Locale.ROOT);
+        if (existing != null) {
+            meterRegistry.counter("talentforge.ai.single_flight.calls", "lane", lane, "result", "coalesced").increment();
+            return (T) join(existing);
+        }
+
+        meterRegistry.counter("talentforge.ai.single_flight.calls", "lane", lane, "result", "leader").increment();
+        try {
+            T result = request.get();
+            inFlight.remove(fingerprint, created);
+            created.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            inFlight.remove(fingerprint, created);
+            created.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    private Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+}
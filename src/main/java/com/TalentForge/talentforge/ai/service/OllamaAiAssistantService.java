@@ -1,31 +1,28 @@
 package com.TalentForge.talentforge.ai.service;
 
+import com.TalentForge.talentforge.ai.dto.AiPreScreenResult;
 import com.TalentForge.talentforge.ai.dto.AiResumeScoreResult;
+import com.TalentForge.talentforge.ai.dto.AiScoreOptions;
+import com.TalentForge.talentforge.ai.dto.AiTextEmbedding;
 import com.TalentForge.talentforge.common.exception.AiServiceUnavailableException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
-import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -34,20 +31,16 @@ import java.util.stream.Collectors;
 public class OllamaAiAssistantService implements AiAssistantService {
 
     private static final Pattern CONTROL_CHARS = Pattern.compile("[\\p{Cntrl}&&[^\\r\\n\\t]]");
-
-    private final ChatClient.Builder chatClientBuilder;
+    private static final Pattern CANDIDATE_TAG = Pattern.compile("</?candidate", Pattern.CASE_INSENSITIVE);
+
+    private final AiClientProfiles aiClientProfiles;
+    private final AiScoreCache aiScoreCache;
+    private final AiCallGovernor aiCallGovernor;
+    private final AiSingleFlight aiSingleFlight;
+    private final PreScreenScorer preScreenScorer;
+    private final TextEmbeddingService textEmbeddingService;
+    private final MeterRegistry meterRegistry;
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final ExecutorService aiExecutor = Executors.newFixedThreadPool(4, new ThreadFactory() {
-        private int index = 0;
-
-        @Override
-        public Thread newThread(Runnable runnable) {
-            Thread thread = new Thread(runnable, "tf-ai-worker-" + (++index));
-            thread.setDaemon(true);
-            return thread;
-        }
-    });
-    private final AtomicLong aiCooldownUntilEpochMs = new AtomicLong(0);
 
     @Value("${app.ai.timeout-ms:30000}")
     private long aiTimeoutMs;
@@ -55,6 +48,15 @@ public class OllamaAiAssistantService implements AiAssistantService {
     @Value("${app.ai.max-retries:2}")
     private int aiMaxRetries;
 
+    @Value("${app.ai.score-batch.max-candidates:4}")
+    private int scoreBatchMaxCandidates;
+
+    @Value("${app.ai.score-batch.candidate-max-chars:5000}")
+    private int scoreBatchCandidateMaxChars;
+
+    @Value("${app.ai.score-batch.timeout-ms:60000}")
+    private long scoreBatchTimeoutMs;
+
     @Value("${app.ai.bias-timeout-ms:8000}")
     private long aiBiasTimeoutMs;
 
@@ -67,32 +69,22 @@ public class OllamaAiAssistantService implements AiAssistantService {
     @Value("${app.ai.chat-max-retries:1}")
     private int aiChatMaxRetries;
 
-    @Value("${app.ai.failure-cooldown-ms:45000}")
-    private long aiFailureCooldownMs;
+    @Value("${app.ai.chat-stream.first-token-timeout-ms:15000}")
+    private long aiChatStreamFirstTokenTimeoutMs;
 
-    @Value("${spring.ai.ollama.chat.options.model:llama3.2:latest}")
-    private String configuredModel;
+    @Value("${app.ai.chat-stream.idle-timeout-ms:15000}")
+    private long aiChatStreamIdleTimeoutMs;
 
     @Override
     public String checkJobBias(String title, String description, String requirements) {
         try {
-            String prompt = """
-                    You are Talentforge hiring fairness assistant.
-                    Review the job post below and return:
-                    1) Risk level (LOW, MEDIUM, HIGH)
-                    2) Specific biased phrases
-                    3) Inclusive rewrite suggestions
-
-                    Title: %s
-                    Description: %s
-                    Requirements: %s
-                    """.formatted(
+            String prompt = AiPrompts.BIAS.render(
                     sanitizeForPrompt(title, 1000),
                     sanitizeForPrompt(description, 5000),
                     sanitizeForPrompt(requirements, 3000)
             );
 
-            return callAi(prompt, aiBiasTimeoutMs, aiBiasMaxRetries);
+            return callAi(AiCallType.BIAS, prompt, aiBiasTimeoutMs, aiBiasMaxRetries);
         } catch (Exception ex) {
             return "Bias check unavailable. Please review language manually for age, gender, and cultural exclusions.";
         }
@@ -100,149 +92,216 @@ public class OllamaAiAssistantService implements AiAssistantService {
 
     @Override
     public AiResumeScoreResult scoreResume(String jobText, String resumeText) {
+        return scoreResume(jobText, resumeText, AiScoreOptions.defaults());
+    }
+
+    @Override
+    public AiResumeScoreResult scoreResume(String jobText, String resumeText, AiScoreOptions options) {
+        AiScoreOptions scoreOptions = options == null ? AiScoreOptions.defaults() : options;
         String safeJobText = sanitizeForPrompt(jobText, 7000);
         String safeResumeText = sanitizeForPrompt(resumeText, 9000);
+        String cacheKey = aiScoreCache.fingerprint(AiPrompts.SCORE.version(), aiClientProfiles.model(AiCallType.SCORE), safeJobText, safeResumeText);
 
-        try {
-            String prompt = """
-                    You are Talentforge resume scoring assistant.
-                    Score candidate fit from 0 to 100.
-
-                    Scoring rubric:
-                    - Skill alignment with requirements (40%%)
-                    - Relevant experience evidence (30%%)
-                    - Domain/context relevance (20%%)
-                    - Communication clarity (10%%)
-
-                    Return ONLY valid JSON in this exact shape:
-                    {
-                      "score": 0,
-                      "skills": ["skill one", "skill two"],
-                      "reasoning": "one concise paragraph",
-                      "strengths": ["optional"],
-                      "gaps": ["optional"]
-                    }
-
-                    JOB DESCRIPTION:
-                    %s
-
-                    CANDIDATE PROFILE:
-                    %s
-                    """.formatted(safeJobText, safeResumeText);
-
-            String raw = callAi(prompt, aiTimeoutMs, aiMaxRetries);
-            JsonNode node = parseJsonResponse(raw);
-
-            double score = Math.max(0, Math.min(100, node.path("score").asDouble(0)));
-            String reason = normalizeReason(extractReason(node));
-            String matchingKeywords = extractSkills(node);
-
-            if (matchingKeywords.isBlank()) {
-                matchingKeywords = extractKeywordFallback(safeJobText, safeResumeText);
+        if (!scoreOptions.bypassCache()) {
+            Optional<AiResumeScoreResult> cached = aiScoreCache.get(cacheKey);
+            if (cached.isPresent()) {
+                return cached.get();
             }
+        }
+
+        try {
+            String prompt = AiPrompts.SCORE.render(safeJobText, safeResumeText);
 
-            return new AiResumeScoreResult(score, reason, matchingKeywords);
+            String raw = callAi(AiCallType.SCORE, prompt, aiTimeoutMs, aiMaxRetries);
+            AiResumeScoreResult result = toScoreResult(parseJsonResponse(raw), safeJobText, safeResumeText);
+            aiScoreCache.put(cacheKey, scoreOptions.cacheScope(), result);
+            return result;
         } catch (Exception ex) {
             return fallbackScore(safeJobText, safeResumeText);
         }
     }
 
     @Override
-    public String generateChatReply(String message) {
-        String prompt = """
-                You are Talentforge assistant for candidates and recruiters.
-                Keep answers practical and concise.
-                User message: %s
-                """.formatted(sanitizeForPrompt(message, 3000));
+    public List<AiResumeScoreResult> scoreResumes(String jobText, List<String> resumeTexts, AiScoreOptions options) {
+        AiScoreOptions scoreOptions = options == null ? AiScoreOptions.defaults() : options;
+        String safeJobText = sanitizeForPrompt(jobText, 7000);
+        String model = aiClientProfiles.model(AiCallType.SCORE);
+        AiResumeScoreResult[] results = new AiResumeScoreResult[resumeTexts.size()];
+        String[] safeResumeTexts = new String[resumeTexts.size()];
+        String[] cacheKeys = new String[resumeTexts.size()];
+        List<Integer> pending = new ArrayList<>();
+
+        for (int i = 0; i < resumeTexts.size(); i++) {
+            safeResumeTexts[i] = sanitizeForPrompt(resumeTexts.get(i), scoreBatchCandidateMaxChars);
+            cacheKeys[i] = aiScoreCache.fingerprint(AiPrompts.SCORE_BATCH.version(), model, safeJobText, safeResumeTexts[i]);
+            if (!scoreOptions.bypassCache()) {
+                String singleKey = aiScoreCache.fingerprint(AiPrompts.SCORE.version(), model, safeJobText, sanitizeForPrompt(resumeTexts.get(i), 9000));
+                String batchKey = cacheKeys[i];
+                Optional<AiResumeScoreResult> cached = aiScoreCache.get(singleKey).or(() -> aiScoreCache.get(batchKey));
+                if (cached.isPresent()) {
+                    results[i] = cached.get();
+                    continue;
+                }
+            }
+            pending.add(i);
+        }
 
-        try {
-            return callAi(prompt, aiChatTimeoutMs, aiChatMaxRetries);
-        } catch (Exception ex) {
-            throw new AiServiceUnavailableException(
-                    "AI service unavailable. Verify Ollama is running and the configured model is loaded.",
-                    ex
-            );
+        int chunkSize = Math.max(1, Math.min(10, scoreBatchMaxCandidates));
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<Integer> chunk = pending.subList(from, Math.min(pending.size(), from + chunkSize));
+            if (chunk.size() == 1) {
+                int index = chunk.get(0);
+                results[index] = scoreResume(jobText, resumeTexts.get(index), scoreOptions);
+            } else {
+                scoreChunk(jobText, safeJobText, resumeTexts, safeResumeTexts, cacheKeys, chunk, results, scoreOptions);
+            }
         }
+        return Arrays.asList(results);
     }
 
-    private String callAi(String prompt, long timeoutMs, int maxRetries) {
-        long cooldownUntil = aiCooldownUntilEpochMs.get();
-        long now = System.currentTimeMillis();
-        if (cooldownUntil > now) {
-            throw new RuntimeException("AI temporarily cooling down after recent failures");
+    /** A failed batch call takes the fallback; only unparseable or missing candidates are re-scored one by one. */
+    private void scoreChunk(
+            String jobText,
+            String safeJobText,
+            List<String> resumeTexts,
+            String[] safeResumeTexts,
+            String[] cacheKeys,
+            List<Integer> chunk,
+            AiResumeScoreResult[] results,
+            AiScoreOptions options
+    ) {
+        StringBuilder candidates = new StringBuilder();
+        for (int position = 0; position < chunk.size(); position++) {
+            candidates.append("<candidate id=\"C").append(position + 1).append("\">\n")
+                    .append(CANDIDATE_TAG.matcher(safeResumeTexts[chunk.get(position)]).replaceAll("(candidate"))
+                    .append("\n</candidate>\n\n");
         }
 
-        int attempts = Math.max(1, maxRetries);
-        long timeout = Math.max(1000L, timeoutMs);
-        RuntimeException lastFailure = null;
-
-        for (int attempt = 1; attempt <= attempts; attempt++) {
-            CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> chatClientBuilder.build()
-                            .prompt()
-                            .user(prompt)
-                            .call()
-                            .content(),
-                    aiExecutor);
-
+        Map<String, JsonNode> byId = Map.of();
+        boolean unavailable = false;
+        String raw = null;
+        try {
+            raw = callAi(AiCallType.SCORE, AiPrompts.SCORE_BATCH.render(safeJobText, candidates.toString()), scoreBatchTimeoutMs, aiMaxRetries);
+        } catch (Exception ex) {
+            unavailable = true;
+            meterRegistry.counter("talentforge.ai.score_batch.failures", "reason", "call_failed").increment();
+        }
+        if (raw != null) {
             try {
-                String response = future.get(timeout, TimeUnit.MILLISECONDS);
-                if (response != null && !response.isBlank()) {
-                    aiCooldownUntilEpochMs.set(0);
-                    return response.trim();
-                }
-                throw new RuntimeException("AI returned an empty response from model " + configuredModel);
-            } catch (TimeoutException ex) {
-                future.cancel(true);
-                lastFailure = new RuntimeException("AI call timed out on attempt " + attempt, ex);
+                byId = parseBatchResults(raw);
             } catch (Exception ex) {
-                future.cancel(true);
-                lastFailure = new RuntimeException("AI call failed on attempt " + attempt, ex);
+                meterRegistry.counter("talentforge.ai.score_batch.failures", "reason", "unparseable").increment();
             }
         }
+        meterRegistry.counter("talentforge.ai.score_batch.candidates").increment(chunk.size());
+
+        for (int position = 0; position < chunk.size(); position++) {
+            int index = chunk.get(position);
+            JsonNode node = byId.get("C" + (position + 1));
+            if (node != null) {
+                AiResumeScoreResult result = toScoreResult(node, safeJobText, safeResumeTexts[index]);
+                aiScoreCache.put(cacheKeys[index], options.cacheScope(), result);
+                results[index] = result;
+            } else if (unavailable) {
+                results[index] = fallbackScore(safeJobText, safeResumeTexts[index]);
+            } else {
+                meterRegistry.counter("talentforge.ai.score_batch.failures", "reason", "missing_candidate").increment();
+                results[index] = scoreResume(jobText, resumeTexts.get(index), options);
+            }
+        }
+    }
 
-        aiCooldownUntilEpochMs.set(System.currentTimeMillis() + Math.max(1000L, aiFailureCooldownMs));
-        throw lastFailure == null ? new RuntimeException("AI call failed") : lastFailure;
+    private Map<String, JsonNode> parseBatchResults(String raw) throws IOException {
+        JsonNode root = parseJsonResponse(raw);
+        JsonNode items = root.isArray() ? root : root.path("results");
+        Map<String, JsonNode> byId = new HashMap<>();
+        if (items.isArray()) {
+            items.forEach(item -> {
+                String id = item.path("id").asText("").trim().toUpperCase(Locale.ROOT);
+                if (!id.isEmpty() && item.path("score").isNumber()) {
+                    byId.putIfAbsent(id, item);
+                }
+            });
+        }
+        return byId;
     }
 
-    private AiResumeScoreResult fallbackScore(String jobText, String resumeText) {
-        String normalizedJob = jobText == null ? "" : jobText.toLowerCase(Locale.ROOT);
-        String normalizedResume = resumeText == null ? "" : resumeText.toLowerCase(Locale.ROOT);
+    private AiResumeScoreResult toScoreResult(JsonNode node, String safeJobText, String safeResumeText) {
+        double score = Math.max(0, Math.min(100, node.path("score").asDouble(0)));
+        String reason = normalizeReason(extractReason(node));
+        String matchingKeywords = extractSkills(node);
 
-        Map<String, Long> keywordWeights = Arrays.stream(normalizedJob.split("[^a-z0-9+#]+"))
-                .map(String::trim)
-                .filter(token -> token.length() >= 3)
-                .filter(token -> !isStopWord(token))
-                .limit(80)
-                .collect(Collectors.groupingBy(token -> token, LinkedHashMap::new, Collectors.counting()));
+        if (matchingKeywords.isBlank()) {
+            matchingKeywords = extractKeywordFallback(safeJobText, safeResumeText);
+        }
 
-        if (keywordWeights.isEmpty()) {
-            return new AiResumeScoreResult(0, "Talentforge fallback scoring used, but no useful job keywords were found.", "");
+        return new AiResumeScoreResult(score, reason, matchingKeywords);
+    }
+
+    @Override
+    public AiResumeScoreResult scoreResumeSemantic(String jobText, String resumeText) {
+        try {
+            AiTextEmbedding job = textEmbeddingService.embed(jobText);
+            AiTextEmbedding resume = textEmbeddingService.embed(resumeText);
+            double similarity = TextEmbeddingService.dot(resume.vector(), 0, job.vector(), Math.min(job.vector().length, resume.vector().length));
+            String reason = String.format(Locale.ROOT, "Talentforge semantic match: embedding similarity %.3f between resume and job.", similarity);
+            return new AiResumeScoreResult(textEmbeddingService.toScore(similarity), reason, extractKeywordFallback(jobText, resumeText));
+        } catch (Exception ex) {
+            return fallbackScore(sanitizeForPrompt(jobText, 7000), sanitizeForPrompt(resumeText, 9000));
         }
+    }
 
-        double totalWeight = keywordWeights.values().stream().mapToDouble(Long::doubleValue).sum();
-        double matchedWeight = 0;
-        Map<String, Long> matchedTokens = new LinkedHashMap<>();
+    @Override
+    public int invalidateScoreCache(String cacheScope) {
+        return aiScoreCache.invalidateScope(cacheScope);
+    }
 
-        for (Map.Entry<String, Long> entry : keywordWeights.entrySet()) {
-            long occurrences = countOccurrences(normalizedResume, entry.getKey());
-            if (occurrences > 0) {
-                matchedWeight += entry.getValue();
-                matchedTokens.put(entry.getKey(), occurrences);
-            }
+    @Override
+    public String generateChatReply(String message) {
+        try {
+            return callAi(AiCallType.CHAT, chatPrompt(message), aiChatTimeoutMs, aiChatMaxRetries);
+        } catch (Exception ex) {
+            throw new AiServiceUnavailableException(
+                    "AI service unavailable. Verify Ollama is running and the configured model is loaded.",
+                    ex
+            );
         }
+    }
 
-        double score = (matchedWeight / Math.max(1, totalWeight)) * 100.0;
-        List<String> topMatched = matchedTokens.entrySet()
+    @Override
+    public Flux<String> streamChatReply(String message) {
+        String prompt = chatPrompt(message);
+        return aiCallGovernor.stream(AiCallType.CHAT, aiChatStreamFirstTokenTimeoutMs, aiChatStreamIdleTimeoutMs, () -> aiClientProfiles.client(AiCallType.CHAT)
+                .prompt()
+                .user(prompt)
                 .stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .map(Map.Entry::getKey)
-                .limit(20)
-                .toList();
+                .content());
+    }
+
+    private String chatPrompt(String message) {
+        return AiPrompts.CHAT.render(sanitizeForPrompt(message, 3000));
+    }
 
-        String matching = String.join(", ", topMatched);
-        String reason = "Talentforge deterministic fallback used. Matched " + topMatched.size() + " weighted job keywords.";
+    /** Identical concurrent prompts share one model call, except chat. */
+    private String callAi(AiCallType type, String prompt, long timeoutMs, int maxRetries) {
+        String fingerprint = type == AiCallType.CHAT
+                ? null
+                : aiScoreCache.fingerprint(type.name(), aiClientProfiles.model(type), prompt, "");
+        return aiSingleFlight.execute(type, fingerprint, () -> aiCallGovernor.call(type, timeoutMs, maxRetries, () -> aiClientProfiles.client(type)
+                .prompt()
+                .user(prompt)
+                .call()
+                .content()));
+    }
+
+    private AiResumeScoreResult fallbackScore(String jobText, String resumeText) {
+        AiPreScreenResult preScreen = preScreenScorer.score(jobText, resumeText);
+        if (preScreen.jobTerms() == 0) {
+            return new AiResumeScoreResult(0, "Talentforge fallback scoring used, but no useful job keywords were found.", "");
+        }
 
-        return new AiResumeScoreResult(Math.round(Math.max(0, Math.min(100, score)) * 10.0) / 10.0, reason, matching);
+        String reason = "Talentforge deterministic fallback used. Matched " + preScreen.matchedTerms() + " weighted job keywords.";
+        return new AiResumeScoreResult(preScreen.score(), reason, preScreen.matchingKeywords());
     }
 
     private JsonNode parseJsonResponse(String rawResponse) throws IOException {
@@ -325,18 +384,7 @@ public class OllamaAiAssistantService implements AiAssistantService {
     }
 
     private String extractKeywordFallback(String jobText, String resumeText) {
-        Set<String> jobTerms = Arrays.stream(jobText.toLowerCase(Locale.ROOT).split("[^a-z0-9+#]+"))
-                .filter(token -> token.length() >= 3)
-                .filter(token -> !isStopWord(token))
-                .limit(60)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
-
-        Set<String> matched = jobTerms.stream()
-                .filter(term -> resumeText.toLowerCase(Locale.ROOT).contains(term))
-                .limit(20)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
-
-        return String.join(", ", matched);
+        return preScreenScorer.score(jobText, resumeText).matchingKeywords();
     }
 
     private void addSplitSkills(Set<String> skills, String raw) {
@@ -428,30 +476,4 @@ public class OllamaAiAssistantService implements AiAssistantService {
 
         return null;
     }
-
-    private long countOccurrences(String text, String token) {
-        if (text == null || token == null || token.isBlank()) {
-            return 0;
-        }
-
-        long count = 0;
-        int index = 0;
-        while ((index = text.indexOf(token, index)) != -1) {
-            count++;
-            index += token.length();
-        }
-        return count;
-    }
-
-    private boolean isStopWord(String token) {
-        return switch (token) {
-            case "with", "from", "that", "this", "have", "will", "your", "role", "team", "work", "and", "for", "the", "our", "you" -> true;
-            default -> false;
-        };
-    }
-
-    @PreDestroy
-    public void shutdownExecutor() {
-        aiExecutor.shutdownNow();
-    }
 }
@@ -0,0 +1,265 @@
+package com.TalentForge.talentforge.ai.service;
+
+import com.TalentForge.talentforge.ai.dto.AiPreScreenResult;
+import com.TalentForge.talentforge.common.text.TextTokenizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/** Deterministic keyword scorer used before the LLM and as its failure fallback. */
+@Component
+public class PreScreenScorer {
+
+    private static final int MAX_JOB_TERMS = 80;
+    private static final int MAX_TERM_FREQUENCY = 3;
+    private static final int MAX_MATCHED_KEYWORDS = 20;
+    private static final int SURFACE_FILTER_WORDS = 64;
+
+    private static final Set<String> DEFAULT_SKILLS = Set.of(
+            "java", "kotlin", "scala", "python", "go", "rust", "c++", "c#", "php", "ruby", "swift", "javascript",
+            "typescript", "react", "angular", "vue", "node", "spring", "spring boot", "django", "flask", "rails",
+            "laravel", "sql", "postgres", "mysql", "mongodb", "redis", "kafka", "rabbitmq", "elasticsearch", "graphql",
+            "rest", "grpc", "docker", "kubernetes", "terraform", "ansible", "aws", "azure", "google cloud", "linux",
+            "git", "ci/cd", "jenkins", "microservices", "machine learning", "deep learning", "pytorch", "tensorflow",
+            "pandas", "spark", "hadoop", "airflow", "tableau", "excel", "figma", "ios", "android", "flutter",
+            "html", "css", "agile", "scrum", "devops", "security", "testing", "selenium", "jira"
+    );
+
+    private static final Map<String, String> DEFAULT_SYNONYMS = Map.ofEntries(
+            Map.entry("js", "javascript"),
+            Map.entry("ts", "typescript"),
+            Map.entry("golang", "go"),
+            Map.entry("k8s", "kubernetes"),
+            Map.entry("postgresql", "postgres"),
+            Map.entry("psql", "postgres"),
+            Map.entry("reactjs", "react"),
+            Map.entry("react.js", "react"),
+            Map.entry("vuejs", "vue"),
+            Map.entry("vue.js", "vue"),
+            Map.entry("nodejs", "node"),
+            Map.entry("node.js", "node"),
+            Map.entry("springboot", "spring boot"),
+            Map.entry("ml", "machine learning"),
+            Map.entry("gcp", "google cloud"),
+            Map.entry("mongo", "mongodb"),
+            Map.entry("elastic", "elasticsearch"),
+            Map.entry("tf", "terraform"),
+            Map.entry("cicd", "ci/cd")
+    );
+
+    private final Set<String> skills;
+    private final Map<String, String> synonyms;
+    private final Set<String> phraseHeads;
+    private final double skillWeight;
+    private final double termWeight;
+
+    public PreScreenScorer(
+            @Value("${app.ai.prescreen.skill-weight:3.0}") double skillWeight,
+            @Value("${app.ai.prescreen.term-weight:1.0}") double termWeight,
+            @Value("${app.ai.prescreen.extra-skills:}") String extraSkills,
+            @Value("${app.ai.prescreen.synonyms:}") String extraSynonyms
+    ) {
+        this.skillWeight = Math.max(0.0, skillWeight);
+        this.termWeight = Math.max(0.0, termWeight);
+
+        Set<String> configuredSkills = new HashSet<>(DEFAULT_SKILLS);
+        for (String skill : extraSkills.split(",")) {
+            if (!skill.isBlank()) {
+                configuredSkills.add(skill.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        this.skills = Set.copyOf(configuredSkills);
+
+        Map<String, String> configuredSynonyms = new HashMap<>(DEFAULT_SYNONYMS);
+        for (String pair : extraSynonyms.split(",")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0 && separator < pair.length() - 1) {
+                configuredSynonyms.put(
+                        pair.substring(0, separator).trim().toLowerCase(Locale.ROOT),
+                        pair.substring(separator + 1).trim().toLowerCase(Locale.ROOT)
+                );
+            }
+        }
+        this.synonyms = Map.copyOf(configuredSynonyms);
+
+        Set<String> heads = new HashSet<>();
+        for (String phrase : configuredSkills) {
+            addPhraseHead(heads, phrase);
+        }
+        for (String phrase : configuredSynonyms.keySet()) {
+            addPhraseHead(heads, phrase);
+        }
+        this.phraseHeads = Set.copyOf(heads);
+    }
+
+    public AiPreScreenResult score(String jobText, String resumeText) {
+        return score(profile(jobText), resumeText);
+    }
+
+    public AiPreScreenResult score(JobProfile profile, String resumeText) {
+        if (profile.terms.length == 0) {
+            return new AiPreScreenResult(0, "", 0, 0);
+        }
+
+        boolean[] present = new boolean[profile.terms.length];
+        tokenize(resumeText, false, profile.surfaceFilter, term -> {
+            Integer index = profile.index.get(term);
+            if (index != null) {
+                present[index] = true;
+            }
+        });
+
+        double matchedWeight = 0;
+        List<String> matched = new ArrayList<>();
+        for (int i = 0; i < present.length; i++) {
+            if (present[i]) {
+                matchedWeight += profile.weights[i];
+                if (matched.size() < MAX_MATCHED_KEYWORDS) {
+                    matched.add(profile.terms[i]);
+                }
+            }
+        }
+
+        double score = profile.totalWeight == 0 ? 0 : matchedWeight / profile.totalWeight * 100.0;
+        return new AiPreScreenResult(
+                Math.round(Math.max(0, Math.min(100, score)) * 10.0) / 10.0,
+                String.join(", ", matched),
+                matched.size(),
+                profile.terms.length
+        );
+    }
+
+    public JobProfile profile(String jobText) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        tokenize(jobText, true, null, term -> frequencies.merge(term, 1, Integer::sum));
+
+        List<Map.Entry<String, Double>> weighted = new ArrayList<>(frequencies.size());
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            double weight = (skills.contains(entry.getKey()) ? skillWeight : termWeight)
+                    * Math.min(MAX_TERM_FREQUENCY, entry.getValue());
+            if (weight > 0) {
+                weighted.add(Map.entry(entry.getKey(), weight));
+            }
+        }
+        weighted.sort(Map.Entry.<String, Double>comparingByValue().reversed());
+
+        int size = Math.min(MAX_JOB_TERMS, weighted.size());
+        String[] terms = new String[size];
+        double[] weights = new double[size];
+        Map<String, Integer> index = new HashMap<>(size * 2);
+        double totalWeight = 0;
+        for (int i = 0; i < size; i++) {
+            terms[i] = weighted.get(i).getKey();
+            weights[i] = weighted.get(i).getValue();
+            index.put(terms[i], i);
+            totalWeight += weights[i];
+        }
+
+        long[] surfaceFilter = new long[SURFACE_FILTER_WORDS];
+        for (String term : terms) {
+            markSurface(surfaceFilter, term);
+        }
+        for (Map.Entry<String, String> synonym : synonyms.entrySet()) {
+            if (index.containsKey(synonym.getValue())) {
+                markSurface(surfaceFilter, synonym.getKey());
+            }
+        }
+        return new JobProfile(terms, weights, Map.copyOf(index), surfaceFilter, totalWeight);
+    }
+
+    private void markSurface(long[] filter, String surface) {
+        for (String word : surface.split(" ")) {
+            if (!word.isEmpty()) {
+                int bit = filterBit(word.hashCode());
+                filter[bit >>> 6] |= 1L << bit;
+            }
+        }
+    }
+
+    private int filterBit(int hash) {
+        return (hash ^ (hash >>> 16)) & (SURFACE_FILTER_WORDS * 64 - 1);
+    }
+
+    // With a surface filter, tokens whose hash cannot belong to a profile term, synonym or phrase head are
+    // dropped before a String is allocated for them.
+    private void tokenize(String text, boolean usefulOnly, long[] surfaceFilter, Consumer<String> sink) {
+        TextTokenizer.scan(text, new TextTokenizer.TokenVisitor() {
+            private String previous;
+
+            @Override
+            public void visit(char[] chars, int length, int hash, boolean adjacent) {
+                if (!adjacent) {
+                    previous = null;
+                }
+                if (surfaceFilter != null) {
+                    int bit = filterBit(hash);
+                    if ((surfaceFilter[bit >>> 6] & (1L << bit)) == 0) {
+                        previous = null;
+                        return;
+                    }
+                }
+
+                String raw = new String(chars, 0, length);
+                String term = synonyms.getOrDefault(raw, raw);
+                if (previous != null && phraseHeads.contains(previous)) {
+                    String phrase = previous + ' ' + term;
+                    phrase = synonyms.getOrDefault(phrase, phrase);
+                    if (skills.contains(phrase)) {
+                        sink.accept(phrase);
+                    }
+                }
+                if (!usefulOnly || isUseful(term)) {
+                    sink.accept(term);
+                }
+                previous = term;
+            }
+        });
+    }
+
+    private void addPhraseHead(Set<String> heads, String phrase) {
+        int space = phrase.indexOf(' ');
+        if (space > 0) {
+            heads.add(phrase.substring(0, space));
+        }
+    }
+
+    private boolean isUseful(String term) {
+        if (skills.contains(term)) {
+            return true;
+        }
+        if (term.length() < 3 || TextTokenizer.isStopWord(term)) {
+            return false;
+        }
+        for (int i = 0; i < term.length(); i++) {
+            if (!Character.isDigit(term.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static final class JobProfile {
+        private final String[] terms;
+        private final double[] weights;
+        private final Map<String, Integer> index;
+        private final long[] surfaceFilter;
+        private final double totalWeight;
+
+        private JobProfile(String[] terms, double[] weights, Map<String, Integer> index, long[] surfaceFilter, double totalWeight) {
+            this.terms = terms;
+            this.weights = weights;
+            this.index = index;
+            this.surfaceFilter = surfaceFilter;
+            this.totalWeight = totalWeight;
+        }
+    }
+}
@@ -1,28 +1,122 @@
 package com.TalentForge.talentforge.ai.service;
 
-import org.apache.tika.Tika;
+import com.TalentForge.talentforge.common.exception.ResumeParserUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tika.exception.WriteLimitReachedException;
+import org.apache.tika.extractor.EmbeddedDocumentExtractor;
+import org.apache.tika.extractor.ParsingEmbeddedDocumentExtractor;
+import org.apache.tika.io.TikaInputStream;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.metadata.TikaCoreProperties;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.parser.Parser;
+import org.apache.tika.parser.pdf.PDFParserConfig;
+import org.apache.tika.sax.BodyContentHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
+@Slf4j
 public class ResumeParserService {
 
-    private static final int MAX_TIKA_CHARS = 20000;
+    private static final AtomicInteger RESUME_PARSER_THREAD_COUNTER = new AtomicInteger(0);
 
-    private final Tika tika = new Tika();
+    private final ResumeTextCache resumeTextCache;
+    private final MeterRegistry meterRegistry;
+    private final AutoDetectParser parser = new AutoDetectParser();
+    private final int maxChars;
+    private final long timeoutMs;
+    private final long maxFileBytes;
+    private final int maxPdfPages;
+    private final int maxEmbeddedResources;
+    private final long pdfMaxMainMemoryBytes;
+    private final ThreadPoolExecutor parserExecutor;
+    private final Timer parseTimer;
+
+    public ResumeParserService(
+            ResumeTextCache resumeTextCache,
+            MeterRegistry meterRegistry,
+            @Value("${app.resume-parser.max-chars:12000}") int maxChars,
+            @Value("${app.resume-parser.threads:2}") int threads,
+            @Value("${app.resume-parser.queue-capacity:16}") int queueCapacity,
+            @Value("${app.resume-parser.timeout-ms:20000}") long timeoutMs,
+            @Value("${app.resume-parser.max-file-bytes:10485760}") long maxFileBytes,
+            @Value("${app.resume-parser.max-pdf-pages:20}") int maxPdfPages,
+            @Value("${app.resume-parser.max-embedded-resources:10}") int maxEmbeddedResources,
+            @Value("${app.resume-parser.pdf-max-main-memory-bytes:33554432}") long pdfMaxMainMemoryBytes
+    ) {
+        this.resumeTextCache = resumeTextCache;
+        this.meterRegistry = meterRegistry;
+        this.maxChars = Math.max(1000, maxChars);
+        this.timeoutMs = Math.max(1000L, timeoutMs);
+        this.maxFileBytes = Math.max(1024L, maxFileBytes);
+        this.maxPdfPages = Math.max(1, maxPdfPages);
+        this.maxEmbeddedResources = Math.max(0, maxEmbeddedResources);
+        this.pdfMaxMainMemoryBytes = Math.max(1024L * 1024L, pdfMaxMainMemoryBytes);
+        int poolSize = Math.max(1, threads);
+        this.parserExecutor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable);
+                    thread.setName("resume-parser-" + RESUME_PARSER_THREAD_COUNTER.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.parseTimer = meterRegistry.timer("talentforge.resume_parser.duration");
+        meterRegistry.gauge("talentforge.resume_parser.queue_depth", parserExecutor, executor -> executor.getQueue().size());
+        meterRegistry.gauge("talentforge.resume_parser.active", parserExecutor, ThreadPoolExecutor::getActiveCount);
+    }
 
     public String extractText(MultipartFile file) throws IOException {
         if (file == null || file.isEmpty()) {
             return "";
         }
 
-        byte[] bytes = file.getBytes();
-        return extractText(file.getOriginalFilename(), file.getContentType(), bytes);
+        return extractText(file.getOriginalFilename(), file.getContentType(), file.getSize(), file::getInputStream);
+    }
+
+    public String extractText(String fileName, String contentType, Path path) throws IOException {
+        if (path == null || !Files.isRegularFile(path)) {
+            return "";
+        }
+
+        return extractText(fileName, contentType, Files.size(path), () -> TikaInputStream.get(path));
     }
 
     public String extractText(String fileName, String contentType, byte[] bytes) throws IOException {
@@ -30,37 +124,110 @@ public class ResumeParserService {
             return "";
         }
 
-        String directDecode = decodeTextFallback(fileName, contentType, bytes);
-        if (!directDecode.isBlank()) {
-            return directDecode;
+        return extractText(fileName, contentType, bytes.length, () -> new ByteArrayInputStream(bytes));
+    }
+
+    private String extractText(String fileName, String contentType, long size, ResumeStreamSource source) throws IOException {
+        if (size <= 0) {
+            return "";
+        }
+        if (size > maxFileBytes) {
+            log.warn("Skipping resume text extraction fileName={} size={} maxFileBytes={}", fileName, size, maxFileBytes);
+            recordOutcome("too_large");
+            return "";
+        }
+
+        if (looksTextLike(fileName, contentType)) {
+            String directDecode = decodeTextFallback(source);
+            if (!directDecode.isBlank()) {
+                return directDecode;
+            }
+        }
+
+        String contentHash = resumeTextCache.isEnabled() ? hash(source) : null;
+        Optional<String> cached = resumeTextCache.get(contentHash);
+        if (cached.isPresent()) {
+            return cached.get();
         }
 
+        SanitizingTextHandler textHandler = new SanitizingTextHandler(maxChars, maxPdfPages);
+        Future<String> parse;
         try {
-            String parsed = truncate(sanitize(tika.parseToString(new ByteArrayInputStream(bytes))), MAX_TIKA_CHARS);
-            if (!parsed.isBlank()) {
-                return parsed;
-            }
+            parse = parserExecutor.submit(() -> parseTimer.recordCallable(
+                    () -> parseStreaming(fileName, contentType, source, textHandler)
+            ));
+        } catch (RejectedExecutionException ex) {
+            log.warn("Resume parser queue is full, rejecting fileName={} queueDepth={}", fileName, parserExecutor.getQueue().size());
+            recordOutcome("rejected");
+            throw new ResumeParserUnavailableException("Resume parser is busy, try again shortly");
+        }
+
+        try {
+            String parsed = parse.get(timeoutMs, TimeUnit.MILLISECONDS);
+            resumeTextCache.put(contentHash, size, parsed);
+            recordOutcome(textHandler.truncated() ? "truncated" : "completed");
+            return parsed;
+        } catch (TimeoutException ex) {
+            textHandler.cancel();
+            parse.cancel(true);
+            log.warn("Resume parse timed out fileName={} contentType={} timeoutMs={}", fileName, contentType, timeoutMs);
+            recordOutcome("timeout");
+            throw new ResumeParserUnavailableException("Resume parsing timed out, try again shortly");
+        } catch (InterruptedException ex) {
+            textHandler.cancel();
+            parse.cancel(true);
+            Thread.currentThread().interrupt();
+            recordOutcome("interrupted");
+            throw new ResumeParserUnavailableException("Resume parsing was interrupted");
+        } catch (ExecutionException ex) {
+            log.debug("Tika could not extract text from fileName={} contentType={}", fileName, contentType, ex.getCause());
+            recordOutcome("failed");
+            return "";
+        }
+    }
+
+    private String parseStreaming(
+            String fileName,
+            String contentType,
+            ResumeStreamSource source,
+            SanitizingTextHandler textHandler
+    ) throws Exception {
+        Metadata metadata = new Metadata();
+        if (fileName != null) {
+            metadata.set(TikaCoreProperties.RESOURCE_NAME_KEY, fileName);
+        }
+        if (contentType != null) {
+            metadata.set(Metadata.CONTENT_TYPE, contentType);
+        }
+        ParseContext context = new ParseContext();
+        context.set(Parser.class, parser);
+        context.set(EmbeddedDocumentExtractor.class, new LimitedEmbeddedDocumentExtractor(context, maxEmbeddedResources));
+        PDFParserConfig pdfConfig = new PDFParserConfig();
+        pdfConfig.setMaxMainMemoryBytes(pdfMaxMainMemoryBytes);
+        pdfConfig.setExtractInlineImages(false);
+        context.set(PDFParserConfig.class, pdfConfig);
 
-            return decodeTextFallback(fileName, contentType, bytes);
+        try (InputStream stream = TikaInputStream.get(source.open())) {
+            parser.parse(stream, new BodyContentHandler(textHandler), metadata, context);
         } catch (Exception ex) {
-            try {
-                return decodeTextFallback(fileName, contentType, bytes);
-            } catch (Exception fallbackEx) {
-                throw new IOException("Failed to parse resume file", ex);
+            if (!WriteLimitReachedException.isWriteLimitReached(ex)) {
+                throw ex;
             }
         }
+        return textHandler.text();
     }
 
-    private String sanitize(String value) {
-        if (value == null) {
-            return "";
+    private void recordOutcome(String outcome) {
+        meterRegistry.counter("talentforge.resume_parser.parses", "outcome", outcome).increment();
+    }
+
+    private String hash(ResumeStreamSource source) throws IOException {
+        try (DigestInputStream stream = new DigestInputStream(source.open(), MessageDigest.getInstance("SHA-256"))) {
+            stream.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(stream.getMessageDigest().digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
         }
-        return value
-                .replace('\u0000', ' ')
-                .replaceAll("[\\t\\x0B\\f\\r]+", " ")
-                .replaceAll(" {2,}", " ")
-                .replaceAll("\\n{3,}", "\n\n")
-                .trim();
     }
 
     private boolean looksTextLike(String fileName, String contentType) {
@@ -81,31 +248,140 @@ public class ResumeParserService {
         return lower.endsWith(".txt") || lower.endsWith(".md") || lower.endsWith(".csv") || lower.endsWith(".rtf");
     }
 
-    private String decodeTextFallback(String fileName, String contentType, byte[] bytes) {
-        if (bytes == null || bytes.length == 0) {
-            return "";
+    private String decodeTextFallback(ResumeStreamSource source) throws IOException {
+        byte[] prefix;
+        try (InputStream stream = source.open()) {
+            prefix = stream.readNBytes(maxChars * 4);
         }
-        if (!looksTextLike(fileName, contentType)) {
+        if (prefix.length == 0) {
             return "";
         }
 
-        String utf8 = sanitize(new String(bytes, StandardCharsets.UTF_8));
+        String utf8 = sanitize(new String(prefix, StandardCharsets.UTF_8));
         if (!utf8.isBlank()) {
             return utf8;
         }
 
-        String latin1 = sanitize(new String(bytes, StandardCharsets.ISO_8859_1));
-        if (!latin1.isBlank()) {
-            return latin1;
+        return sanitize(new String(prefix, StandardCharsets.ISO_8859_1));
+    }
+
+    private String sanitize(String value) {
+        SanitizingTextHandler handler = new SanitizingTextHandler(maxChars, Integer.MAX_VALUE);
+        char[] chars = value.toCharArray();
+        try {
+            handler.characters(chars, 0, chars.length);
+        } catch (SAXException ignored) {
+            // Budget reached; the handler keeps the truncated prefix.
+        }
+        return handler.text();
+    }
+
+    @PreDestroy
+    public void shutdownParserExecutor() throws InterruptedException {
+        parserExecutor.shutdown();
+        if (!parserExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+            parserExecutor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResumeStreamSource {
+        InputStream open() throws IOException;
+    }
+
+    private static final class LimitedEmbeddedDocumentExtractor extends ParsingEmbeddedDocumentExtractor {
+        private final int maxEmbeddedResources;
+        private int parsed = 0;
+
+        private LimitedEmbeddedDocumentExtractor(ParseContext context, int maxEmbeddedResources) {
+            super(context);
+            this.maxEmbeddedResources = maxEmbeddedResources;
         }
 
-        return "";
+        @Override
+        public boolean shouldParseEmbedded(Metadata metadata) {
+            if (parsed >= maxEmbeddedResources || !super.shouldParseEmbedded(metadata)) {
+                return false;
+            }
+            parsed++;
+            return true;
+        }
     }
 
-    private String truncate(String value, int maxChars) {
-        if (value == null || value.length() <= maxChars) {
-            return value == null ? "" : value;
+    private static final class SanitizingTextHandler extends DefaultHandler {
+        private final int maxChars;
+        private final int maxPages;
+        private final StringBuilder text = new StringBuilder();
+        private int newlineRun = 0;
+        private int pages = 0;
+        private boolean truncated = false;
+        private volatile boolean cancelled = false;
+
+        private SanitizingTextHandler(int maxChars, int maxPages) {
+            this.maxChars = maxChars;
+            this.maxPages = maxPages;
+        }
+
+        private void cancel() {
+            cancelled = true;
+        }
+
+        private boolean truncated() {
+            return truncated;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+            ensureNotCancelled();
+            if ("div".equals(localName) && "page".equals(attributes.getValue("class")) && ++pages > maxPages) {
+                truncated = true;
+                throw new WriteLimitReachedException(maxChars);
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) throws SAXException {
+            ensureNotCancelled();
+            for (int i = start; i < start + length; i++) {
+                append(ch[i]);
+            }
+        }
+
+        @Override
+        public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+            characters(ch, start, length);
+        }
+
+        private void append(char c) throws SAXException {
+            if (c == '\n') {
+                if (text.isEmpty() || ++newlineRun > 2) {
+                    return;
+                }
+            } else if (c == ' ' || c == '\u0000' || c == '\t' || c == '\u000B' || c == '\f' || c == '\r') {
+                newlineRun = 0;
+                if (text.isEmpty() || text.charAt(text.length() - 1) == ' ') {
+                    return;
+                }
+                c = ' ';
+            } else {
+                newlineRun = 0;
+            }
+
+            if (text.length() >= maxChars) {
+                truncated = true;
+                throw new WriteLimitReachedException(maxChars);
+            }
+            text.append(c);
+        }
+
+        private void ensureNotCancelled() throws SAXException {
+            if (cancelled) {
+                throw new SAXException("Resume parse cancelled");
+            }
+        }
+
+        private String text() {
+            return text.toString().trim();
         }
-        return value.substring(0, maxChars);
     }
 }
@@ -0,0 +1,136 @@
+package com.TalentForge.talentforge.ai.service;
+
+import com.TalentForge.talentforge.ai.entity.ResumeTextCacheEntry;
+import com.TalentForge.talentforge.ai.repository.ResumeTextCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@Slf4j
+public class ResumeTextCache {
+
+    private final ResumeTextCacheRepository resumeTextCacheRepository;
+    private final boolean enabled;
+    private final boolean persistentEnabled;
+    private final long retentionDays;
+    private final Map<String, String> memoryTier;
+    private final Counter memoryHits;
+    private final Counter persistentHits;
+    private final Counter misses;
+
+    public ResumeTextCache(
+            ResumeTextCacheRepository resumeTextCacheRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.resume-text-cache.enabled:true}") boolean enabled,
+            @Value("${app.resume-text-cache.persistent-enabled:true}") boolean persistentEnabled,
+            @Value("${app.resume-text-cache.max-memory-entries:256}") int maxMemoryEntries,
+            @Value("${app.resume-text-cache.retention-days:30}") long retentionDays
+    ) {
+        this.resumeTextCacheRepository = resumeTextCacheRepository;
+        this.enabled = enabled;
+        this.persistentEnabled = persistentEnabled;
+        this.retentionDays = Math.max(1, retentionDays);
+        int capacity = Math.max(1, maxMemoryEntries);
+        this.memoryTier = new LinkedHashMap<>(Math.min(capacity, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.memoryHits = meterRegistry.counter("talentforge.resume_text_cache.requests", "result", "hit", "tier", "memory");
+        this.persistentHits = meterRegistry.counter("talentforge.resume_text_cache.requests", "result", "hit", "tier", "database");
+        this.misses = meterRegistry.counter("talentforge.resume_text_cache.requests", "result", "miss", "tier", "none");
+        meterRegistry.gauge("talentforge.resume_text_cache.memory_entries", this, cache -> cache.memorySize());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<String> get(String contentHash) {
+        if (!enabled || contentHash == null) {
+            return Optional.empty();
+        }
+
+        String cached;
+        synchronized (memoryTier) {
+            cached = memoryTier.get(contentHash);
+        }
+        if (cached != null) {
+            memoryHits.increment();
+            return Optional.of(cached);
+        }
+
+        if (persistentEnabled) {
+            try {
+                Optional<ResumeTextCacheEntry> entry = resumeTextCacheRepository.findById(contentHash);
+                if (entry.isPresent()) {
+                    String text = entry.get().getExtractedText();
+                    putInMemory(contentHash, text);
+                    resumeTextCacheRepository.recordHit(contentHash, LocalDateTime.now());
+                    persistentHits.increment();
+                    return Optional.of(text);
+                }
+            } catch (Exception ex) {
+                log.debug("Resume text cache lookup failed hash={}", contentHash, ex);
+            }
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(String contentHash, long byteSize, String extractedText) {
+        if (!enabled || contentHash == null || extractedText == null) {
+            return;
+        }
+
+        putInMemory(contentHash, extractedText);
+        if (!persistentEnabled) {
+            return;
+        }
+
+        try {
+            resumeTextCacheRepository.insertIfAbsent(contentHash, extractedText, extractedText.length(), byteSize, LocalDateTime.now());
+        } catch (Exception ex) {
+            log.debug("Resume text cache write failed hash={}", contentHash, ex);
+        }
+    }
+
+    @Scheduled(cron = "${app.resume-text-cache.purge-cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        if (!enabled || !persistentEnabled) {
+            return;
+        }
+
+        try {
+            int removed = resumeTextCacheRepository.deleteNotAccessedSince(LocalDateTime.now().minusDays(retentionDays));
+            if (removed > 0) {
+                log.info("Purged {} resume text cache entries older than {} days", removed, retentionDays);
+            }
+        } catch (Exception ex) {
+            log.warn("Resume text cache purge failed", ex);
+        }
+    }
+
+    private void putInMemory(String contentHash, String text) {
+        synchronized (memoryTier) {
+            memoryTier.put(contentHash, text);
+        }
+    }
+
+    private int memorySize() {
+        synchronized (memoryTier) {
+            return memoryTier.size();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.TalentForge.talentforge.ai.service;
+
+import com.TalentForge.talentforge.ai.dto.AiTextEmbedding;
+import com.TalentForge.talentforge.ai.entity.TextEmbedding;
+import com.TalentForge.talentforge.ai.repository.TextEmbeddingRepository;
+import com.TalentForge.talentforge.common.exception.AiServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/** Embeds text with Ollama and persists normalized vectors keyed by model and text hash. */
+@Service
+public class TextEmbeddingService {
+
+    private final ObjectProvider<EmbeddingModel> embeddingModelProvider;
+    private final TextEmbeddingRepository textEmbeddingRepository;
+    private final AiCallGovernor aiCallGovernor;
+    private final boolean enabled;
+    private final String model;
+    private final long timeoutMs;
+    private final int maxRetries;
+    private final int maxChars;
+    private final double similarityFloor;
+    private final double similarityCeiling;
+    private final Counter hits;
+    private final Counter misses;
+
+    public TextEmbeddingService(
+            ObjectProvider<EmbeddingModel> embeddingModelProvider,
+            TextEmbeddingRepository textEmbeddingRepository,
+            AiCallGovernor aiCallGovernor,
+            MeterRegistry meterRegistry,
+            @Value("${app.ai.embedding.enabled:true}") boolean enabled,
+            @Value("${spring.ai.ollama.embedding.options.model:nomic-embed-text}") String model,
+            @Value("${app.ai.embedding.timeout-ms:10000}") long timeoutMs,
+            @Value("${app.ai.embedding.max-retries:1}") int maxRetries,
+            @Value("${app.ai.embedding.max-chars:8000}") int maxChars,
+            @Value("${app.ai.embedding.similarity-floor:0.35}") double similarityFloor,
+            @Value("${app.ai.embedding.similarity-ceiling:0.85}") double similarityCeiling
+    ) {
+        this.embeddingModelProvider = embeddingModelProvider;
+        this.textEmbeddingRepository = textEmbeddingRepository;
+        this.aiCallGovernor = aiCallGovernor;
+        this.enabled = enabled;
+        this.model = model;
+        this.timeoutMs = timeoutMs;
+        this.maxRetries = maxRetries;
+        this.maxChars = Math.max(500, maxChars);
+        this.similarityFloor = similarityFloor;
+        this.similarityCeiling = Math.max(similarityFloor + 0.01, similarityCeiling);
+        this.hits = meterRegistry.counter("talentforge.ai.embedding.requests", "result", "hit");
+        this.misses = meterRegistry.counter("talentforge.ai.embedding.requests", "result", "miss");
+    }
+
+    public boolean isEnabled() {
+        return enabled && embeddingModelProvider.getIfAvailable() != null;
+    }
+
+    public String model() {
+        return model;
+    }
+
+    /** Rescales cosine similarity above the floor onto the 0-100 score scale. */
+    public double toScore(double similarity) {
+        double scaled = (similarity - similarityFloor) / (similarityCeiling - similarityFloor) * 100.0;
+        return Math.round(Math.max(0, Math.min(100, scaled)) * 10.0) / 10.0;
+    }
+
+    public AiTextEmbedding embed(String text) {
+        EmbeddingModel embeddingModel = enabled ? embeddingModelProvider.getIfAvailable() : null;
+        if (embeddingModel == null) {
+            throw new AiServiceUnavailableException("Embedding scoring is disabled");
+        }
+
+        String input = text == null ? "" : text.strip();
+        if (input.length() > maxChars) {
+            input = input.substring(0, maxChars);
+        }
+        if (input.isEmpty()) {
+            throw new IllegalArgumentException("Cannot embed empty text");
+        }
+
+        String contentHash = contentHash(input);
+        Optional<TextEmbedding> stored = textEmbeddingRepository.findById(contentHash);
+        if (stored.isPresent()) {
+            hits.increment();
+            return new AiTextEmbedding(contentHash, decode(stored.get().getEmbedding()));
+        }
+
+        misses.increment();
+        String request = input;
+        float[] vector = normalize(aiCallGovernor.call(
+                AiCallType.EMBEDDING,
+                timeoutMs,
+                maxRetries,
+                () -> embeddingModel.embed(request),
+                embedding -> embedding != null && embedding.length > 0
+        ));
+
+        textEmbeddingRepository.insertIfAbsent(contentHash, model, vector.length, encode(vector), LocalDateTime.now());
+        return new AiTextEmbedding(contentHash, vector);
+    }
+
+    public static float[] decode(byte[] bytes) {
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    public static void decodeInto(byte[] bytes, float[] target, int offset) {
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(target, offset, bytes.length / Float.BYTES);
+    }
+
+    public static float dot(float[] left, int leftOffset, float[] right, int dimensions) {
+        float s0 = 0f;
+        float s1 = 0f;
+        float s2 = 0f;
+        float s3 = 0f;
+        int i = 0;
+        for (; i + 3 < dimensions; i += 4) {
+            s0 += left[leftOffset + i] * right[i];
+            s1 += left[leftOffset + i + 1] * right[i + 1];
+            s2 += left[leftOffset + i + 2] * right[i + 2];
+            s3 += left[leftOffset + i + 3] * right[i + 3];
+        }
+        for (; i < dimensions; i++) {
+            s0 += left[leftOffset + i] * right[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private static byte[] encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        float[] normalized = vector.clone();
+        if (norm > 0) {
+            float scale = (float) (1.0 / Math.sqrt(norm));
+            for (int i = 0; i < normalized.length; i++) {
+                normalized[i] *= scale;
+            }
+        }
+        return normalized;
+    }
+
+    private String contentHash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(model.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
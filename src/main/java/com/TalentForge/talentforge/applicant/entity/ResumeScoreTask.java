@@ -52,6 +52,20 @@ public class ResumeScoreTask {
     @Column(length = 140)
     private String targetRole;
 
+    @Column(length = 500)
+    private String resumeFilePath;
+
+    private Long fileSize;
+
+    @Column(columnDefinition = "TEXT")
+    private String jobDescription;
+
+    @Column(columnDefinition = "TEXT")
+    private String requirements;
+
+    @Column(columnDefinition = "TEXT")
+    private String coverLetter;
+
     private Double score;
 
     @Column(columnDefinition = "TEXT")
@@ -73,6 +87,23 @@ public class ResumeScoreTask {
     @Column(columnDefinition = "TEXT")
     private String errorMessage;
 
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer maxAttempts = 3;
+
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 120)
+    private String leaseOwner;
+
+    private LocalDateTime leaseExpiresAt;
+
+    private LocalDateTime heartbeatAt;
+
     private LocalDateTime startedAt;
 
     private LocalDateTime completedAt;
@@ -4,5 +4,6 @@ public enum ResumeScoreTaskStatus {
     QUEUED,
     PROCESSING,
     COMPLETED,
-    FAILED
+    FAILED,
+    DEAD_LETTER
 }
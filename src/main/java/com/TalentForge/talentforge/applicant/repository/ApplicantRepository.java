@@ -2,11 +2,21 @@ package com.TalentForge.talentforge.applicant.repository;
 
 import com.TalentForge.talentforge.applicant.entity.Applicant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
 import java.util.Optional;
 
 public interface ApplicantRepository extends JpaRepository<Applicant, Long> {
     Optional<Applicant> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Transactional
+    @Modifying
+    @Query("update Applicant a set a.aiScore = :aiScore, a.aiAnalysis = :aiAnalysis where a.id = :id")
+    int updateAiScore(@Param("id") Long id, @Param("aiScore") Double aiScore, @Param("aiAnalysis") Map<String, Object> aiAnalysis);
 }
@@ -3,7 +3,12 @@ package com.TalentForge.talentforge.applicant.repository;
 import com.TalentForge.talentforge.applicant.entity.ResumeScoreTask;
 import com.TalentForge.talentforge.applicant.entity.ResumeScoreTaskStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +19,133 @@ public interface ResumeScoreTaskRepository extends JpaRepository<ResumeScoreTask
     List<ResumeScoreTask> findTop50ByUserIdOrderByCreatedAtDesc(Long userId);
 
     long countByUserIdAndStatusIn(Long userId, Collection<ResumeScoreTaskStatus> statuses);
+
+    @Query(value = """
+            SELECT t.id
+            FROM resume_score_tasks t
+            WHERE (t.status = 'QUEUED' AND (t.next_attempt_at IS NULL OR t.next_attempt_at <= :now))
+               OR (t.status = 'PROCESSING' AND t.lease_expires_at < :now)
+            ORDER BY COALESCE(t.next_attempt_at, t.created_at), t.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> lockClaimableIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+            UPDATE ResumeScoreTask t
+            SET t.status = :status,
+                t.leaseOwner = :leaseOwner,
+                t.leaseExpiresAt = :leaseExpiresAt,
+                t.heartbeatAt = :now,
+                t.attempts = t.attempts + 1
+            WHERE t.id IN :ids
+            """)
+    int markClaimed(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") ResumeScoreTaskStatus status,
+            @Param("leaseOwner") String leaseOwner,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("""
+            UPDATE ResumeScoreTask t
+            SET t.leaseExpiresAt = :leaseExpiresAt,
+                t.heartbeatAt = :now
+            WHERE t.id IN :ids
+              AND t.leaseOwner = :leaseOwner
+              AND t.status = :status
+            """)
+    int extendLeases(
+            @Param("ids") Collection<Long> ids,
+            @Param("leaseOwner") String leaseOwner,
+            @Param("status") ResumeScoreTaskStatus status,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+            @Param("now") LocalDateTime now
+    );
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE ResumeScoreTask t
+            SET t.processingLogs = :processingLogs,
+                t.startedAt = COALESCE(t.startedAt, :now),
+                t.updatedAt = :now
+            WHERE t.id = :id
+              AND t.leaseOwner = :leaseOwner
+              AND t.status = :status
+            """)
+    int updateLogsIfLeased(
+            @Param("id") Long id,
+            @Param("leaseOwner") String leaseOwner,
+            @Param("status") ResumeScoreTaskStatus status,
+            @Param("processingLogs") String processingLogs,
+            @Param("now") LocalDateTime now
+    );
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE ResumeScoreTask t
+            SET t.status = :finalStatus,
+                t.score = :score,
+                t.reason = :reason,
+                t.matchingKeywords = :matchingKeywords,
+                t.parsedCharacters = :parsedCharacters,
+                t.source = :source,
+                t.usedApplicantProfile = :usedApplicantProfile,
+                t.errorMessage = :errorMessage,
+                t.processingLogs = :processingLogs,
+                t.leaseOwner = null,
+                t.leaseExpiresAt = null,
+                t.nextAttemptAt = null,
+                t.completedAt = :now,
+                t.updatedAt = :now
+            WHERE t.id = :id
+              AND t.leaseOwner = :leaseOwner
+              AND t.status = :status
+            """)
+    int finishIfLeased(
+            @Param("id") Long id,
+            @Param("leaseOwner") String leaseOwner,
+            @Param("status") ResumeScoreTaskStatus status,
+            @Param("finalStatus") ResumeScoreTaskStatus finalStatus,
+            @Param("score") Double score,
+            @Param("reason") String reason,
+            @Param("matchingKeywords") String matchingKeywords,
+            @Param("parsedCharacters") Integer parsedCharacters,
+            @Param("source") String source,
+            @Param("usedApplicantProfile") Boolean usedApplicantProfile,
+            @Param("errorMessage") String errorMessage,
+            @Param("processingLogs") String processingLogs,
+            @Param("now") LocalDateTime now
+    );
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE ResumeScoreTask t
+            SET t.status = :queuedStatus,
+                t.nextAttemptAt = :nextAttemptAt,
+                t.errorMessage = :errorMessage,
+                t.processingLogs = :processingLogs,
+                t.leaseOwner = null,
+                t.leaseExpiresAt = null,
+                t.updatedAt = :now
+            WHERE t.id = :id
+              AND t.leaseOwner = :leaseOwner
+              AND t.status = :status
+            """)
+    int requeueIfLeased(
+            @Param("id") Long id,
+            @Param("leaseOwner") String leaseOwner,
+            @Param("status") ResumeScoreTaskStatus status,
+            @Param("queuedStatus") ResumeScoreTaskStatus queuedStatus,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("errorMessage") String errorMessage,
+            @Param("processingLogs") String processingLogs,
+            @Param("now") LocalDateTime now
+    );
 }
@@ -7,6 +7,7 @@ import com.TalentForge.talentforge.applicant.dto.ApplicantResumeScoreResponse;
 import com.TalentForge.talentforge.applicant.dto.ApplicantResponse;
 import com.TalentForge.talentforge.applicant.dto.ResumeScoreTaskResponse;
 import com.TalentForge.talentforge.applicant.dto.ResumeScoreTaskSubmitResponse;
+import com.TalentForge.talentforge.applicant.entity.ResumeScoreTaskStatus;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -31,4 +32,6 @@ public interface ApplicantService {
     ResumeScoreTaskResponse getResumeScoreTask(String userEmail, Long taskId);
 
     List<ResumeScoreTaskResponse> getResumeScoreTasks(String userEmail);
+
+    ResumeScoreTaskStatus processResumeScoreTask(Long taskId, String workerId);
 }
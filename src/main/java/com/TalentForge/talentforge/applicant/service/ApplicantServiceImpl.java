@@ -18,6 +18,7 @@ import com.TalentForge.talentforge.applicant.mapper.ApplicantMapper;
 import com.TalentForge.talentforge.applicant.repository.ApplicantRepository;
 import com.TalentForge.talentforge.applicant.repository.ResumeScoreHistoryRepository;
 import com.TalentForge.talentforge.applicant.repository.ResumeScoreTaskRepository;
+import com.TalentForge.talentforge.application.service.ResumeStorageService;
 import com.TalentForge.talentforge.common.exception.BadRequestException;
 import com.TalentForge.talentforge.common.exception.ResourceNotFoundException;
 import com.TalentForge.talentforge.notification.entity.NotificationType;
@@ -26,12 +27,15 @@ import com.TalentForge.talentforge.subscription.service.SubscriptionLimitService
 import com.TalentForge.talentforge.user.entity.User;
 import com.TalentForge.talentforge.user.entity.UserRole;
 import com.TalentForge.talentforge.user.repository.UserRepository;
-import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -39,18 +43,14 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class ApplicantServiceImpl implements ApplicantService {
 
     private static final int MAX_RESUME_CHARS = 12000;
     private static final int MAX_CONTEXT_CHARS = 14000;
-    private static final AtomicInteger RESUME_TASK_THREAD_COUNTER = new AtomicInteger(0);
 
     private final ApplicantRepository applicantRepository;
     private final ApplicantMapper applicantMapper;
@@ -61,12 +61,8 @@ public class ApplicantServiceImpl implements ApplicantService {
     private final NotificationService notificationService;
     private final ResumeScoreHistoryRepository resumeScoreHistoryRepository;
     private final ResumeScoreTaskRepository resumeScoreTaskRepository;
-    private final ExecutorService resumeTaskExecutor = Executors.newFixedThreadPool(3, runnable -> {
-        Thread thread = new Thread(runnable);
-        thread.setName("resume-task-" + RESUME_TASK_THREAD_COUNTER.incrementAndGet());
-        thread.setDaemon(true);
-        return thread;
-    });
+    private final ResumeScoreTaskQueue resumeScoreTaskQueue;
+    private final ResumeStorageService resumeStorageService;
 
     @Override
     public ApplicantResponse create(ApplicantRequest request) {
@@ -141,11 +137,11 @@ public class ApplicantServiceImpl implements ApplicantService {
         List<String> processingLogs = new ArrayList<>();
         processingLogs.add(stageLog("REQUEST_RECEIVED", "Talentforge candidate resume score request received"));
 
-        final byte[] resumeBytes;
+        final String extractedText;
         try {
-            resumeBytes = resumeFile.getBytes();
+            extractedText = resumeParserService.extractText(resumeFile);
         } catch (IOException ex) {
-            throw new BadRequestException("Could not read resume file: " + ex.getMessage());
+            throw new BadRequestException("Could not parse resume file: " + ex.getMessage());
         }
 
         ScoreComputation result = executeScore(
@@ -154,7 +150,7 @@ public class ApplicantServiceImpl implements ApplicantService {
                 resumeFile.getOriginalFilename(),
                 resumeFile.getContentType(),
                 resumeFile.getSize(),
-                resumeBytes,
+                extractedText,
                 processingLogs,
                 null
         );
@@ -214,11 +210,11 @@ public class ApplicantServiceImpl implements ApplicantService {
             }
         }
 
-        final byte[] resumeBytes;
+        final String resumePath;
         try {
-            resumeBytes = resumeFile.getBytes();
+            resumePath = resumeStorageService.store(resumeFile);
         } catch (IOException ex) {
-            throw new BadRequestException("Could not read resume file: " + ex.getMessage());
+            throw new BadRequestException("Could not store resume file: " + ex.getMessage());
         }
 
         ResumeScoreTask task = ResumeScoreTask.builder()
@@ -227,24 +223,18 @@ public class ApplicantServiceImpl implements ApplicantService {
                 .fileName(blankToNull(truncate(resumeFile.getOriginalFilename(), 255)))
                 .fileContentType(blankToNull(truncate(resumeFile.getContentType(), 120)))
                 .targetRole(blankToNull(truncate(request == null ? null : request.getTargetRole(), 140)))
+                .jobDescription(blankToNull(request == null ? null : request.getJobDescription()))
+                .requirements(blankToNull(request == null ? null : request.getRequirements()))
+                .coverLetter(blankToNull(request == null ? null : request.getCoverLetter()))
+                .resumeFilePath(resumePath)
+                .fileSize(resumeFile.getSize())
+                .attempts(0)
+                .maxAttempts(resumeScoreTaskQueue.maxAttempts())
+                .nextAttemptAt(LocalDateTime.now())
                 .processingLogs(stageLog("QUEUED", "Resume parsing task queued"))
                 .build();
         ResumeScoreTask savedTask = resumeScoreTaskRepository.save(task);
 
-        ApplicantResumeScoreRequest requestCopy = copyRequest(request);
-        CompletableFuture.runAsync(
-                () -> processResumeScoreTask(
-                        savedTask.getId(),
-                        user.getId(),
-                        requestCopy,
-                        resumeBytes,
-                        resumeFile.getOriginalFilename(),
-                        resumeFile.getContentType(),
-                        resumeFile.getSize()
-                ),
-                resumeTaskExecutor
-        );
-
         return new ResumeScoreTaskSubmitResponse(
                 savedTask.getId(),
                 savedTask.getStatus(),
@@ -346,45 +336,64 @@ public class ApplicantServiceImpl implements ApplicantService {
         return LocalDateTime.now() + " | " + stage + " | " + detail;
     }
 
-    private void processResumeScoreTask(
-            Long taskId,
-            Long userId,
-            ApplicantResumeScoreRequest request,
-            byte[] resumeBytes,
-            String fileName,
-            String contentType,
-            long fileSize
-    ) {
+    @Override
+    public ResumeScoreTaskStatus processResumeScoreTask(Long taskId, String workerId) {
         ResumeScoreTask task = resumeScoreTaskRepository.findById(taskId).orElse(null);
-        User user = userRepository.findById(userId).orElse(null);
-        if (task == null || user == null) {
-            return;
+        if (task == null || task.getStatus() != ResumeScoreTaskStatus.PROCESSING || !workerId.equals(task.getLeaseOwner())) {
+            return null;
         }
 
         List<String> processingLogs = parseProcessingLogs(task.getProcessingLogs());
-        processingLogs.add(stageLog("PROCESSING_STARTED", "Background resume parsing started"));
-        task.setStatus(ResumeScoreTaskStatus.PROCESSING);
-        task.setStartedAt(LocalDateTime.now());
-        task.setProcessingLogs(serializeProcessingLogs(processingLogs));
-        resumeScoreTaskRepository.save(task);
+        User user = userRepository.findById(task.getUser().getId()).orElse(null);
+        if (user == null) {
+            processingLogs.add(stageLog("FAILED", "Task owner no longer exists"));
+            return finishTask(task, workerId, ResumeScoreTaskStatus.FAILED, "Task owner no longer exists", processingLogs) ? ResumeScoreTaskStatus.FAILED : null;
+        }
+
+        int attempt = task.getAttempts() == null ? 1 : task.getAttempts();
+        int maxAttempts = task.getMaxAttempts() == null ? resumeScoreTaskQueue.maxAttempts() : task.getMaxAttempts();
+        if (attempt > maxAttempts) {
+            processingLogs.add(stageLog("DEAD_LETTER", "Lease expired after final attempt " + maxAttempts));
+            if (!finishTask(task, workerId, ResumeScoreTaskStatus.DEAD_LETTER, "Resume parsing task exhausted " + maxAttempts + " attempts", processingLogs)) {
+                return null;
+            }
+            notifyTaskFailed(user, task);
+            return ResumeScoreTaskStatus.DEAD_LETTER;
+        }
+
+        processingLogs.add(stageLog("PROCESSING_STARTED", "Background resume parsing started (attempt " + attempt + "/" + maxAttempts + ", worker=" + workerId + ")"));
+        if (resumeScoreTaskRepository.updateLogsIfLeased(
+                task.getId(), workerId, ResumeScoreTaskStatus.PROCESSING, serializeProcessingLogs(processingLogs), LocalDateTime.now()) == 0) {
+            log.info("Resume task lease lost before processing taskId={} workerId={}", task.getId(), workerId);
+            return null;
+        }
 
         try {
             if (user.getRole() == UserRole.CANDIDATE) {
                 subscriptionLimitService.ensureCandidateCanScoreResume(user);
             }
 
-            ScoreComputation result = executeScore(user, request, fileName, contentType, fileSize, resumeBytes, processingLogs, task);
-            task.setStatus(ResumeScoreTaskStatus.COMPLETED);
+            Path resumePath = storedResumePath(task);
+            String extractedText = resumeParserService.extractText(task.getFileName(), task.getFileContentType(), resumePath);
+            ScoreComputation result = executeScore(
+                    user,
+                    requestFromTask(task),
+                    task.getFileName(),
+                    task.getFileContentType(),
+                    task.getFileSize() == null ? Files.size(resumePath) : task.getFileSize(),
+                    extractedText,
+                    processingLogs,
+                    task
+            );
             task.setScore(result.score());
             task.setReason(result.reason());
             task.setMatchingKeywords(result.keywords());
             task.setParsedCharacters(result.parsedCharacters());
             task.setSource(result.source());
             task.setUsedApplicantProfile(result.usedApplicantProfile());
-            task.setProcessingLogs(serializeProcessingLogs(processingLogs));
-            task.setErrorMessage(null);
-            task.setCompletedAt(LocalDateTime.now());
-            resumeScoreTaskRepository.save(task);
+            if (!finishTask(task, workerId, ResumeScoreTaskStatus.COMPLETED, null, processingLogs)) {
+                return null;
+            }
 
             notificationService.createForUser(
                     user.getId(),
@@ -393,40 +402,110 @@ public class ApplicantServiceImpl implements ApplicantService {
                     "Background parsing completed. Latest score: " + result.score() + ".",
                     buildResumeAiLink(user, task.getId())
             );
-        } catch (Exception ex) {
+            return ResumeScoreTaskStatus.COMPLETED;
+        } catch (BadRequestException ex) {
             processingLogs.add(stageLog("FAILED", ex.getMessage() == null ? "Resume parsing task failed" : ex.getMessage()));
-            task.setStatus(ResumeScoreTaskStatus.FAILED);
-            task.setErrorMessage(truncate(ex.getMessage(), 2000));
-            task.setProcessingLogs(serializeProcessingLogs(processingLogs));
-            task.setCompletedAt(LocalDateTime.now());
-            resumeScoreTaskRepository.save(task);
+            if (!finishTask(task, workerId, ResumeScoreTaskStatus.FAILED, ex.getMessage(), processingLogs)) {
+                return null;
+            }
+            notifyTaskFailed(user, task);
+            return ResumeScoreTaskStatus.FAILED;
+        } catch (Exception ex) {
+            String message = ex.getMessage() == null ? "Resume parsing task failed" : ex.getMessage();
+            if (attempt < maxAttempts) {
+                LocalDateTime nextAttemptAt = resumeScoreTaskQueue.nextAttemptAt(attempt);
+                processingLogs.add(stageLog("RETRY_SCHEDULED", message + " (next attempt at " + nextAttemptAt + ")"));
+                log.warn("Resume task attempt failed taskId={} attempt={}/{}", task.getId(), attempt, maxAttempts, ex);
+                int requeued = resumeScoreTaskRepository.requeueIfLeased(
+                        task.getId(),
+                        workerId,
+                        ResumeScoreTaskStatus.PROCESSING,
+                        ResumeScoreTaskStatus.QUEUED,
+                        nextAttemptAt,
+                        truncate(message, 2000),
+                        serializeProcessingLogs(processingLogs),
+                        LocalDateTime.now()
+                );
+                return requeued == 0 ? null : ResumeScoreTaskStatus.QUEUED;
+            }
 
-            notificationService.createForUser(
-                    user.getId(),
-                    NotificationType.SYSTEM,
-                    "Resume parsing failed",
-                    "Background resume parsing failed. Open details to review logs and retry.",
-                    buildResumeAiLink(user, task.getId())
-            );
+            processingLogs.add(stageLog("DEAD_LETTER", message));
+            log.warn("Resume task moved to dead letter taskId={} attempts={}", task.getId(), attempt, ex);
+            if (!finishTask(task, workerId, ResumeScoreTaskStatus.DEAD_LETTER, message, processingLogs)) {
+                return null;
+            }
+            notifyTaskFailed(user, task);
+            return ResumeScoreTaskStatus.DEAD_LETTER;
         }
     }
 
+    private boolean finishTask(ResumeScoreTask task, String workerId, ResumeScoreTaskStatus status, String errorMessage, List<String> processingLogs) {
+        int updated = resumeScoreTaskRepository.finishIfLeased(
+                task.getId(),
+                workerId,
+                ResumeScoreTaskStatus.PROCESSING,
+                status,
+                task.getScore(),
+                task.getReason(),
+                task.getMatchingKeywords(),
+                task.getParsedCharacters(),
+                task.getSource(),
+                task.getUsedApplicantProfile(),
+                errorMessage == null ? null : truncate(errorMessage, 2000),
+                serializeProcessingLogs(processingLogs),
+                LocalDateTime.now()
+        );
+        if (updated == 0) {
+            log.info("Resume task lease lost, dropping {} result taskId={} workerId={}", status, task.getId(), workerId);
+            return false;
+        }
+
+        resumeStorageService.delete(task.getResumeFilePath());
+        return true;
+    }
+
+    private void notifyTaskFailed(User user, ResumeScoreTask task) {
+        notificationService.createForUser(
+                user.getId(),
+                NotificationType.SYSTEM,
+                "Resume parsing failed",
+                "Background resume parsing failed. Open details to review logs and retry.",
+                buildResumeAiLink(user, task.getId())
+        );
+    }
+
+    private Path storedResumePath(ResumeScoreTask task) throws IOException {
+        if (task.getResumeFilePath() == null || task.getResumeFilePath().isBlank()) {
+            throw new BadRequestException("Stored resume file is missing for this task. Please resubmit.");
+        }
+
+        Path path = Paths.get(task.getResumeFilePath());
+        if (!Files.isReadable(path)) {
+            throw new IOException("Stored resume file is not readable: " + path);
+        }
+        return path;
+    }
+
+    private ApplicantResumeScoreRequest requestFromTask(ResumeScoreTask task) {
+        ApplicantResumeScoreRequest request = new ApplicantResumeScoreRequest();
+        request.setTargetRole(task.getTargetRole());
+        request.setJobDescription(task.getJobDescription());
+        request.setRequirements(task.getRequirements());
+        request.setCoverLetter(task.getCoverLetter());
+        return request;
+    }
+
     private ScoreComputation executeScore(
             User user,
             ApplicantResumeScoreRequest request,
             String fileName,
             String contentType,
             long fileSize,
-            byte[] resumeBytes,
+            String extractedText,
             List<String> processingLogs,
             ResumeScoreTask linkedTask
     ) {
-        String resumeText;
-        try {
-            resumeText = truncate(resumeParserService.extractText(fileName, contentType, resumeBytes), MAX_RESUME_CHARS);
-        } catch (IOException ex) {
-            throw new BadRequestException("Could not parse resume file: " + ex.getMessage());
-        }
+        String resumeText = truncate(extractedText, MAX_RESUME_CHARS);
 
         if (resumeText.isBlank()) {
             processingLogs.add(stageLog("RESUME_EMPTY", "No readable text extracted from resume. Using metadata/context fallback."));
@@ -550,18 +629,6 @@ public class ApplicantServiceImpl implements ApplicantService {
         return String.join("\n", logs);
     }
 
-    private ApplicantResumeScoreRequest copyRequest(ApplicantResumeScoreRequest request) {
-        ApplicantResumeScoreRequest copy = new ApplicantResumeScoreRequest();
-        if (request == null) {
-            return copy;
-        }
-        copy.setTargetRole(request.getTargetRole());
-        copy.setJobDescription(request.getJobDescription());
-        copy.setRequirements(request.getRequirements());
-        copy.setCoverLetter(request.getCoverLetter());
-        return copy;
-    }
-
     private User getUserByEmailOrThrow(String userEmail) {
         return userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found: " + userEmail));
@@ -592,11 +659,6 @@ public class ApplicantServiceImpl implements ApplicantService {
         );
     }
 
-    @PreDestroy
-    public void shutdownResumeTaskExecutor() {
-        resumeTaskExecutor.shutdownNow();
-    }
-
     private record ScoreComputation(
             Double score,
             String reason,
@@ -0,0 +1,72 @@
+package com.TalentForge.talentforge.applicant.service;
+
+import com.TalentForge.talentforge.applicant.entity.ResumeScoreTaskStatus;
+import com.TalentForge.talentforge.applicant.repository.ResumeScoreTaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ResumeScoreTaskQueue {
+
+    private final ResumeScoreTaskRepository resumeScoreTaskRepository;
+
+    @Value("${app.resume-tasks.lease-ms:120000}")
+    private long leaseMs;
+
+    @Value("${app.resume-tasks.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.resume-tasks.retry-backoff-ms:15000}")
+    private long retryBackoffMs;
+
+    @Value("${app.resume-tasks.retry-backoff-max-ms:600000}")
+    private long retryBackoffMaxMs;
+
+    @Transactional
+    public List<Long> claim(String workerId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = resumeScoreTaskRepository.lockClaimableIds(now, limit);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        resumeScoreTaskRepository.markClaimed(ids, ResumeScoreTaskStatus.PROCESSING, workerId, leaseExpiry(now), now);
+        return ids;
+    }
+
+    @Transactional
+    public int heartbeat(String workerId, Collection<Long> taskIds) {
+        if (taskIds == null || taskIds.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return resumeScoreTaskRepository.extendLeases(taskIds, workerId, ResumeScoreTaskStatus.PROCESSING, leaseExpiry(now), now);
+    }
+
+    public int maxAttempts() {
+        return Math.max(1, maxAttempts);
+    }
+
+    public LocalDateTime nextAttemptAt(int attempts) {
+        long base = Math.max(1000L, retryBackoffMs);
+        int exponent = Math.max(0, Math.min(attempts - 1, 16));
+        long delay = Math.min(Math.max(base, retryBackoffMaxMs), base << exponent);
+        return LocalDateTime.now().plusNanos(delay * 1_000_000L);
+    }
+
+    private LocalDateTime leaseExpiry(LocalDateTime now) {
+        return now.plusNanos(Math.max(5000L, leaseMs) * 1_000_000L);
+    }
+}
@@ -0,0 +1,142 @@
+package com.TalentForge.talentforge.applicant.service;
+
+import com.TalentForge.talentforge.applicant.entity.ResumeScoreTaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Slf4j
+public class ResumeScoreTaskWorker {
+
+    private static final AtomicInteger RESUME_TASK_THREAD_COUNTER = new AtomicInteger(0);
+
+    private final ResumeScoreTaskQueue resumeScoreTaskQueue;
+    private final ApplicantService applicantService;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int workerThreads;
+    private final String workerId;
+    private final ExecutorService resumeTaskExecutor;
+    private final ScheduledExecutorService heartbeatScheduler;
+    private final Set<Long> inFlightTaskIds = ConcurrentHashMap.newKeySet();
+    private final Counter claimedCounter;
+
+    public ResumeScoreTaskWorker(
+            ResumeScoreTaskQueue resumeScoreTaskQueue,
+            ApplicantService applicantService,
+            MeterRegistry meterRegistry,
+            @Value("${app.resume-tasks.worker-enabled:true}") boolean enabled,
+            @Value("${app.resume-tasks.worker-threads:3}") int workerThreads,
+            @Value("${app.resume-tasks.heartbeat-interval-ms:30000}") long heartbeatIntervalMs
+    ) {
+        this.resumeScoreTaskQueue = resumeScoreTaskQueue;
+        this.applicantService = applicantService;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.workerThreads = Math.max(1, workerThreads);
+        this.workerId = resolveWorkerId();
+        this.resumeTaskExecutor = Executors.newFixedThreadPool(this.workerThreads, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("resume-task-" + RESUME_TASK_THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("resume-task-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long heartbeatDelayMs = Math.max(1000L, heartbeatIntervalMs);
+        heartbeatScheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatDelayMs, heartbeatDelayMs, TimeUnit.MILLISECONDS);
+        this.claimedCounter = meterRegistry.counter("talentforge.resume_tasks.claimed");
+        meterRegistry.gauge("talentforge.resume_tasks.in_flight", inFlightTaskIds, Set::size);
+    }
+
+    @Scheduled(fixedDelayString = "${app.resume-tasks.poll-interval-ms:2000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+
+        int capacity = workerThreads - inFlightTaskIds.size();
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<Long> claimed;
+        try {
+            claimed = resumeScoreTaskQueue.claim(workerId, capacity);
+        } catch (Exception ex) {
+            log.warn("Resume task claim failed workerId={}", workerId, ex);
+            return;
+        }
+
+        for (Long taskId : claimed) {
+            claimedCounter.increment();
+            inFlightTaskIds.add(taskId);
+            resumeTaskExecutor.execute(() -> run(taskId));
+        }
+    }
+
+    private void heartbeat() {
+        if (inFlightTaskIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            resumeScoreTaskQueue.heartbeat(workerId, Set.copyOf(inFlightTaskIds));
+        } catch (Exception ex) {
+            log.warn("Resume task heartbeat failed workerId={} tasks={}", workerId, inFlightTaskIds, ex);
+        }
+    }
+
+    private void run(Long taskId) {
+        try {
+            ResumeScoreTaskStatus outcome = applicantService.processResumeScoreTask(taskId, workerId);
+            if (outcome != null) {
+                meterRegistry.counter("talentforge.resume_tasks.processed", "outcome", outcome.name()).increment();
+            }
+        } catch (Exception ex) {
+            log.warn("Resume task processing crashed taskId={} workerId={}", taskId, workerId, ex);
+        } finally {
+            inFlightTaskIds.remove(taskId);
+        }
+    }
+
+    private String resolveWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception ex) {
+            host = "node";
+        }
+        String id = host + ":" + UUID.randomUUID().toString().substring(0, 8);
+        return id.length() <= 120 ? id : id.substring(id.length() - 120);
+    }
+
+    @PreDestroy
+    public void shutdownResumeTaskExecutor() throws InterruptedException {
+        heartbeatScheduler.shutdownNow();
+        resumeTaskExecutor.shutdown();
+        if (!resumeTaskExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            resumeTaskExecutor.shutdownNow();
+        }
+    }
+}
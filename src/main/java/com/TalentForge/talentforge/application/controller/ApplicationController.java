@@ -2,8 +2,11 @@ package com.TalentForge.talentforge.application.controller;
 
 import com.TalentForge.talentforge.application.dto.ApplicationCreateRequest;
 import com.TalentForge.talentforge.application.dto.ApplicationResponse;
+import com.TalentForge.talentforge.application.dto.ApplicationSimilarityResponse;
 import com.TalentForge.talentforge.application.dto.ApplicationStatusUpdateRequest;
+import com.TalentForge.talentforge.application.dto.JobRescoreProgressResponse;
 import com.TalentForge.talentforge.application.service.ApplicationService;
+import com.TalentForge.talentforge.application.service.JobRescoreService;
 import com.TalentForge.talentforge.common.payload.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +33,7 @@ import java.util.List;
 public class ApplicationController {
 
     private final ApplicationService applicationService;
+    private final JobRescoreService jobRescoreService;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<ApplicationResponse>> submit(
@@ -39,7 +43,7 @@ public class ApplicationController {
     ) {
         return ResponseEntity.ok(ApiResponse.<ApplicationResponse>builder()
                 .success(true)
-                .message("Application submitted")
+                .message("Application submitted, AI scoring in progress")
                 .data(applicationService.submit(request, resumeFile, authentication == null ? null : authentication.getName()))
                 .build());
     }
@@ -57,11 +61,47 @@ public class ApplicationController {
     }
 
     @PostMapping("/{id}/rescore")
-    public ResponseEntity<ApiResponse<ApplicationResponse>> rescore(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<ApplicationResponse>> rescore(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean force
+    ) {
         return ResponseEntity.ok(ApiResponse.<ApplicationResponse>builder()
                 .success(true)
                 .message("Application AI score refreshed")
-                .data(applicationService.rescore(id))
+                .data(applicationService.rescore(id, force))
+                .build());
+    }
+
+    @PostMapping("/rescore")
+    public ResponseEntity<ApiResponse<JobRescoreProgressResponse>> rescoreJob(
+            @RequestParam Long jobId,
+            @RequestParam(defaultValue = "false") boolean force
+    ) {
+        return ResponseEntity.ok(ApiResponse.<JobRescoreProgressResponse>builder()
+                .success(true)
+                .message("Job rescore started")
+                .data(jobRescoreService.start(jobId, force))
+                .build());
+    }
+
+    @GetMapping("/rescore/{batchId}")
+    public ResponseEntity<ApiResponse<JobRescoreProgressResponse>> getRescoreProgress(@PathVariable String batchId) {
+        return ResponseEntity.ok(ApiResponse.<JobRescoreProgressResponse>builder()
+                .success(true)
+                .message("Job rescore progress fetched")
+                .data(jobRescoreService.getProgress(batchId))
+                .build());
+    }
+
+    @GetMapping("/semantic-ranking")
+    public ResponseEntity<ApiResponse<List<ApplicationSimilarityResponse>>> rankBySimilarity(
+            @RequestParam Long jobId,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return ResponseEntity.ok(ApiResponse.<List<ApplicationSimilarityResponse>>builder()
+                .success(true)
+                .message("Applications ranked by semantic similarity")
+                .data(applicationService.rankBySimilarity(jobId, limit))
                 .build());
     }
 
@@ -0,0 +1,10 @@
+package com.TalentForge.talentforge.application.dto;
+
+public record ApplicationEmbeddingRow(
+        Long applicationId,
+        Long applicantId,
+        String applicantName,
+        Double aiScore,
+        byte[] embedding
+) {
+}
@@ -1,5 +1,6 @@
 package com.TalentForge.talentforge.application.dto;
 
+import com.TalentForge.talentforge.application.entity.ApplicationProcessingState;
 import com.TalentForge.talentforge.application.entity.ApplicationStatus;
 
 import java.time.LocalDateTime;
@@ -16,6 +17,7 @@ public record ApplicationResponse(
         String resumeFilePath,
         String resumeFileType,
         Double aiScore,
+        Double prescreenScore,
         String aiScoreReason,
         String matchingKeywords,
         List<String> processingLogs,
@@ -23,6 +25,7 @@ public record ApplicationResponse(
         LocalDateTime appliedAt,
         LocalDateTime updatedAt,
         LocalDateTime reviewedAt,
-        LocalDateTime interviewedAt
+        LocalDateTime interviewedAt,
+        ApplicationProcessingState processingState
 ) {
 }
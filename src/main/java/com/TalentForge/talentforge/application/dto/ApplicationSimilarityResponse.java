@@ -0,0 +1,11 @@
+package com.TalentForge.talentforge.application.dto;
+
+public record ApplicationSimilarityResponse(
+        Long applicationId,
+        Long applicantId,
+        String applicantName,
+        Double aiScore,
+        double similarity,
+        double semanticScore
+) {
+}
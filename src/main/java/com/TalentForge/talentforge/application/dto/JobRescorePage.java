@@ -0,0 +1,13 @@
+package com.TalentForge.talentforge.application.dto;
+
+import java.util.List;
+
+public record JobRescorePage(
+        String jobText,
+        List<Candidate> candidates,
+        Long lastId,
+        int skipped
+) {
+    public record Candidate(Long applicationId, String candidateText) {
+    }
+}
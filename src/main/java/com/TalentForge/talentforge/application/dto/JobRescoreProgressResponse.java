@@ -0,0 +1,18 @@
+package com.TalentForge.talentforge.application.dto;
+
+import java.time.LocalDateTime;
+
+public record JobRescoreProgressResponse(
+        String batchId,
+        Long jobId,
+        String status,
+        long total,
+        long processed,
+        long scored,
+        long reused,
+        long skipped,
+        long failed,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt
+) {
+}
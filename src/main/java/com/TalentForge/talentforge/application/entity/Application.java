@@ -70,6 +70,11 @@ public class Application {
 
     private Double aiScore;
 
+    private Double prescreenScore;
+
+    @Column(length = 64)
+    private String embeddingHash;
+
     @Column(columnDefinition = "TEXT")
     private String aiScoreReason;
 
@@ -84,6 +89,19 @@ public class Application {
     @Column(columnDefinition = "TEXT")
     private String coverLetter;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    @Builder.Default
+    private ApplicationProcessingState processingState = ApplicationProcessingState.COMPLETED;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer processingAttempts = 0;
+
+    private LocalDateTime processingLeaseExpiresAt;
+
+    private Long submittedByUserId;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime appliedAt;
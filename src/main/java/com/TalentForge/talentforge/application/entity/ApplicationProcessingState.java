@@ -0,0 +1,10 @@
+package com.TalentForge.talentforge.application.entity;
+
+public enum ApplicationProcessingState {
+    PENDING_SCORING,
+    PARSING,
+    SCORING,
+    NOTIFYING,
+    COMPLETED,
+    FAILED
+}
@@ -19,6 +19,7 @@ public class ApplicationMapper {
                 application.getResumeFilePath(),
                 application.getResumeFileType(),
                 application.getAiScore(),
+                application.getPrescreenScore(),
                 application.getAiScoreReason(),
                 application.getMatchingKeywords(),
                 application.getProcessingLogs(),
@@ -26,7 +27,8 @@ public class ApplicationMapper {
                 application.getAppliedAt(),
                 application.getUpdatedAt(),
                 application.getReviewedAt(),
-                application.getInterviewedAt()
+                application.getInterviewedAt(),
+                application.getProcessingState()
         );
     }
 }
@@ -1,9 +1,20 @@
 package com.TalentForge.talentforge.application.repository;
 
+import com.TalentForge.talentforge.application.dto.ApplicationEmbeddingRow;
 import com.TalentForge.talentforge.application.entity.Application;
+import com.TalentForge.talentforge.application.entity.ApplicationProcessingState;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
     List<Application> findByJobId(Long jobId);
@@ -12,7 +23,129 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
 
     boolean existsByJobIdAndApplicantId(Long jobId, Long applicantId);
 
+    @Query("select a.job.id from Application a where a.applicant.id = :applicantId")
+    List<Long> findJobIdsByApplicantId(@Param("applicantId") Long applicantId);
+
     long countByApplicantId(Long applicantId);
 
+    long countByJobId(Long jobId);
+
+    long countByJobIdAndPrescreenScoreIsNotNull(Long jobId);
+
+    long countByJobIdAndPrescreenScoreGreaterThan(Long jobId, Double prescreenScore);
+
     long countByJobRecruiterId(Long recruiterId);
+
+    @EntityGraph(attributePaths = {"job", "job.recruiter", "applicant"})
+    Optional<Application> findWithJobAndApplicantById(Long id);
+
+    @EntityGraph(attributePaths = {"job", "applicant"})
+    List<Application> findByIdIn(Collection<Long> ids);
+
+    @Query("""
+            select a from Application a
+            join fetch a.applicant
+            where a.job.id = :jobId and a.id > :afterId
+            order by a.id
+            """)
+    List<Application> findRescorePage(@Param("jobId") Long jobId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            select new com.TalentForge.talentforge.application.dto.ApplicationEmbeddingRow(
+                a.id, ap.id, ap.fullName, a.aiScore, e.embedding
+            )
+            from Application a
+            join a.applicant ap
+            join TextEmbedding e on e.contentHash = a.embeddingHash
+            where a.job.id = :jobId
+            """)
+    List<ApplicationEmbeddingRow> findEmbeddingRows(@Param("jobId") Long jobId);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update Application a
+            set a.processingState = :claimedState,
+                a.processingAttempts = a.processingAttempts + 1,
+                a.processingLeaseExpiresAt = :leaseExpiresAt
+            where a.id = :id
+              and a.processingAttempts < :maxAttempts
+              and (a.processingState = :pendingState
+                   or (a.processingState in :activeStates and a.processingLeaseExpiresAt < :now))
+            """)
+    int claimForProcessing(
+            @Param("id") Long id,
+            @Param("claimedState") ApplicationProcessingState claimedState,
+            @Param("pendingState") ApplicationProcessingState pendingState,
+            @Param("activeStates") Collection<ApplicationProcessingState> activeStates,
+            @Param("maxAttempts") int maxAttempts,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+            @Param("now") LocalDateTime now
+    );
+
+    @Query("""
+            select a.id from Application a
+            where (a.processingState = :pendingState and a.updatedAt < :pendingBefore)
+               or (a.processingState in :activeStates and a.processingLeaseExpiresAt < :now)
+            order by a.id
+            """)
+    List<Long> findStalledProcessingIds(
+            @Param("pendingState") ApplicationProcessingState pendingState,
+            @Param("activeStates") Collection<ApplicationProcessingState> activeStates,
+            @Param("pendingBefore") LocalDateTime pendingBefore,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update Application a
+            set a.processingState = :failedState,
+                a.processingLeaseExpiresAt = null,
+                a.aiScore = 0.0,
+                a.aiScoreReason = :reason
+            where a.processingState in :activeStates
+              and a.processingLeaseExpiresAt < :now
+              and a.processingAttempts >= :maxAttempts
+            """)
+    int failExhaustedProcessing(
+            @Param("failedState") ApplicationProcessingState failedState,
+            @Param("activeStates") Collection<ApplicationProcessingState> activeStates,
+            @Param("maxAttempts") int maxAttempts,
+            @Param("reason") String reason,
+            @Param("now") LocalDateTime now
+    );
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update Application a
+            set a.processingState = :state,
+                a.processingLogs = :processingLogs,
+                a.processingLeaseExpiresAt = :leaseExpiresAt,
+                a.resumeText = :resumeText,
+                a.prescreenScore = :prescreenScore,
+                a.aiScore = :aiScore,
+                a.aiScoreReason = :aiScoreReason,
+                a.matchingKeywords = :matchingKeywords,
+                a.embeddingHash = :embeddingHash,
+                a.updatedAt = :now
+            where a.id = :id
+              and a.processingAttempts = :attempt
+            """)
+    int updateProcessingFields(
+            @Param("id") Long id,
+            @Param("attempt") Integer attempt,
+            @Param("state") ApplicationProcessingState state,
+            @Param("processingLogs") List<String> processingLogs,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+            @Param("resumeText") String resumeText,
+            @Param("prescreenScore") Double prescreenScore,
+            @Param("aiScore") Double aiScore,
+            @Param("aiScoreReason") String aiScoreReason,
+            @Param("matchingKeywords") String matchingKeywords,
+            @Param("embeddingHash") String embeddingHash,
+            @Param("now") LocalDateTime now
+    );
 }
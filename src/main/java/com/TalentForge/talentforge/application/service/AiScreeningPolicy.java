@@ -0,0 +1,65 @@
+package com.TalentForge.talentforge.application.service;
+
+import com.TalentForge.talentforge.ai.dto.AiPreScreenResult;
+import com.TalentForge.talentforge.application.repository.ApplicationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/** Decides whether an application's pre-screen score justifies an LLM call. */
+@Component
+public class AiScreeningPolicy {
+
+    private final ApplicationRepository applicationRepository;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double minScore;
+    private final double topPercent;
+    private final int minSample;
+
+    public AiScreeningPolicy(
+            ApplicationRepository applicationRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.ai.prescreen.gate-enabled:true}") boolean enabled,
+            @Value("${app.ai.prescreen.min-score:10}") double minScore,
+            @Value("${app.ai.prescreen.llm-top-percent:40}") double topPercent,
+            @Value("${app.ai.prescreen.min-sample:20}") int minSample
+    ) {
+        this.applicationRepository = applicationRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.minScore = Math.max(0, Math.min(100, minScore));
+        this.topPercent = Math.max(1, Math.min(100, topPercent));
+        this.minSample = Math.max(1, minSample);
+    }
+
+    public Decision evaluate(Long jobId, AiPreScreenResult preScreen) {
+        Decision decision = decide(jobId, preScreen);
+        meterRegistry.counter("talentforge.ai.prescreen.decisions", "outcome", decision.callLlm() ? "LLM" : "SKIPPED").increment();
+        return decision;
+    }
+
+    private Decision decide(Long jobId, AiPreScreenResult preScreen) {
+        if (!enabled || preScreen.jobTerms() == 0) {
+            return new Decision(true, "Pre-screen gate not applied");
+        }
+        if (preScreen.score() < minScore) {
+            return new Decision(false, "Pre-screen score " + preScreen.score() + " is below the minimum of " + minScore);
+        }
+
+        long ranked = applicationRepository.countByJobIdAndPrescreenScoreIsNotNull(jobId);
+        if (ranked < minSample) {
+            return new Decision(true, "Pre-screen score " + preScreen.score() + " accepted while the job has fewer than " + minSample + " ranked applications");
+        }
+
+        long ahead = applicationRepository.countByJobIdAndPrescreenScoreGreaterThan(jobId, preScreen.score());
+        long slots = (long) Math.ceil(ranked * topPercent / 100.0);
+        if (ahead < slots) {
+            return new Decision(true, "Pre-screen score " + preScreen.score() + " ranks in the top " + topPercent + "% for this job");
+        }
+        return new Decision(false, "Pre-screen score " + preScreen.score() + " ranks outside the top " + topPercent + "% for this job");
+    }
+
+    public record Decision(boolean callLlm, String reason) {
+    }
+}
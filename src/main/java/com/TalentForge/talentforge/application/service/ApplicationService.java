@@ -1,16 +1,29 @@
 package com.TalentForge.talentforge.application.service;
 
+import com.TalentForge.talentforge.ai.dto.AiResumeScoreResult;
 import com.TalentForge.talentforge.application.dto.ApplicationCreateRequest;
 import com.TalentForge.talentforge.application.dto.ApplicationResponse;
+import com.TalentForge.talentforge.application.dto.ApplicationSimilarityResponse;
+import com.TalentForge.talentforge.application.dto.JobRescorePage;
+import com.TalentForge.talentforge.application.entity.ApplicationProcessingState;
 import com.TalentForge.talentforge.application.entity.ApplicationStatus;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
 
 public interface ApplicationService {
     ApplicationResponse submit(ApplicationCreateRequest request, MultipartFile resumeFile, String userEmail);
 
-    ApplicationResponse rescore(Long id);
+    ApplicationProcessingState processSubmission(Long applicationId);
+
+    ApplicationResponse rescore(Long id, boolean force);
+
+    JobRescorePage loadRescorePage(Long jobId, Long afterId, int limit);
+
+    int applyRescoreResults(Map<Long, AiResumeScoreResult> results, Map<Long, Integer> candidateTextChars);
+
+    List<ApplicationSimilarityResponse> rankBySimilarity(Long jobId, int limit);
 
     ApplicationResponse updateStatus(Long id, ApplicationStatus status);
 
@@ -1,18 +1,28 @@
 package com.TalentForge.talentforge.application.service;
 
+import com.TalentForge.talentforge.ai.dto.AiPreScreenResult;
 import com.TalentForge.talentforge.ai.dto.AiResumeScoreResult;
+import com.TalentForge.talentforge.ai.dto.AiTextEmbedding;
+import com.TalentForge.talentforge.ai.dto.AiScoreOptions;
 import com.TalentForge.talentforge.ai.service.AiAssistantService;
+import com.TalentForge.talentforge.ai.service.PreScreenScorer;
+import com.TalentForge.talentforge.ai.service.TextEmbeddingService;
 import com.TalentForge.talentforge.ai.service.ResumeParserService;
 import com.TalentForge.talentforge.applicant.entity.Applicant;
 import com.TalentForge.talentforge.applicant.repository.ApplicantRepository;
 import com.TalentForge.talentforge.application.dto.ApplicationCreateRequest;
 import com.TalentForge.talentforge.application.dto.ApplicationResponse;
+import com.TalentForge.talentforge.application.dto.ApplicationSimilarityResponse;
+import com.TalentForge.talentforge.application.dto.JobRescorePage;
 import com.TalentForge.talentforge.application.entity.Application;
+import com.TalentForge.talentforge.application.entity.ApplicationProcessingState;
 import com.TalentForge.talentforge.application.entity.ApplicationStatus;
 import com.TalentForge.talentforge.application.mapper.ApplicationMapper;
 import com.TalentForge.talentforge.application.repository.ApplicationRepository;
+import com.TalentForge.talentforge.common.exception.AiServiceUnavailableException;
 import com.TalentForge.talentforge.common.exception.BadRequestException;
 import com.TalentForge.talentforge.common.exception.ResourceNotFoundException;
+import com.TalentForge.talentforge.common.exception.ResumeParserUnavailableException;
 import com.TalentForge.talentforge.job.entity.Job;
 import com.TalentForge.talentforge.job.repository.JobRepository;
 import com.TalentForge.talentforge.notification.entity.NotificationType;
@@ -23,11 +33,15 @@ import com.TalentForge.talentforge.user.entity.UserRole;
 import com.TalentForge.talentforge.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -57,6 +71,11 @@ public class ApplicationServiceImpl implements ApplicationService {
     private final UserRepository userRepository;
     private final SubscriptionLimitService subscriptionLimitService;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PreScreenScorer preScreenScorer;
+    private final AiScreeningPolicy aiScreeningPolicy;
+    private final TextEmbeddingService textEmbeddingService;
+    private final ApplicationVectorIndex applicationVectorIndex;
 
     @Override
     public ApplicationResponse submit(ApplicationCreateRequest request, MultipartFile resumeFile, String userEmail) {
@@ -104,80 +123,93 @@ public class ApplicationServiceImpl implements ApplicationService {
                 .applicant(applicant)
                 .status(request.getStatus() == null ? ApplicationStatus.APPLIED : request.getStatus())
                 .coverLetter(request.getCoverLetter())
+                .processingState(ApplicationProcessingState.PENDING_SCORING)
+                .submittedByUserId(currentUser == null ? null : currentUser.getId())
                 .processingLogs(processingLogs)
                 .build();
 
-        String parsedResumeText = "";
-        boolean resumeParsedSuccessfully = false;
         if (resumeFile != null && !resumeFile.isEmpty()) {
             try {
                 processingLogs.add(stageLog("RESUME_RECEIVED", "File accepted: " + resumeFile.getOriginalFilename()));
                 String resumePath = resumeStorageService.store(resumeFile);
                 processingLogs.add(stageLog("RESUME_STORED", "Stored at: " + resumePath));
 
-                parsedResumeText = truncate(resumeParserService.extractText(resumeFile), MAX_RESUME_CHARS);
-                processingLogs.add(stageLog("RESUME_PARSED", "Extracted characters: " + parsedResumeText.length()));
-                resumeParsedSuccessfully = !parsedResumeText.isBlank();
-
                 application.setResumeFileName(resumeFile.getOriginalFilename());
                 application.setResumeFilePath(resumePath);
                 application.setResumeFileType(resumeFile.getContentType());
-                application.setResumeText(parsedResumeText);
             } catch (IOException ex) {
-                processingLogs.add(stageLog("RESUME_PROCESSING_FAILED", "Resume parsing failed, using profile fallback"));
-                log.warn("Resume parsing failed for applicantId={} jobId={}", applicant.getId(), job.getId(), ex);
+                processingLogs.add(stageLog("RESUME_PROCESSING_FAILED", "Resume storage failed, using profile fallback"));
+                log.warn("Resume storage failed for applicantId={} jobId={}", applicant.getId(), job.getId(), ex);
             }
         } else {
             processingLogs.add(stageLog("NO_RESUME", "Resume file not provided, using profile text for scoring"));
         }
 
-        String jobText = buildJobText(job);
-        String candidateText = buildCandidateText(applicant, request.getCoverLetter(), parsedResumeText);
-        runAiScoring(application, applicant, job, jobText, candidateText, processingLogs, "SUBMIT");
-
-        processingLogs.add(stageLog("SAVING", "Persisting application"));
+        processingLogs.add(stageLog("PENDING_SCORING", "Application accepted, resume parsing and AI scoring queued"));
         application.setProcessingLogs(processingLogs);
-        ApplicationResponse response = applicationMapper.toResponse(applicationRepository.save(application));
+        Application saved = applicationRepository.save(application);
         if (currentUser != null && currentUser.getRole() == UserRole.CANDIDATE) {
             subscriptionLimitService.incrementCandidateApplicationUsage(currentUser);
         }
 
-        if (job.getRecruiter() != null) {
-            notificationService.createForUser(
-                    job.getRecruiter().getId(),
-                    NotificationType.NEW_APPLICANT,
-                    "New applicant received",
-                    applicant.getFullName() + " applied for \"" + job.getTitle() + "\".",
-                    "/recruiter/applications"
-            );
+        eventPublisher.publishEvent(new ApplicationSubmittedEvent(saved.getId()));
+        return applicationMapper.toResponse(saved);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ApplicationProcessingState processSubmission(Long applicationId) {
+        Application application = applicationRepository.findWithJobAndApplicantById(applicationId).orElse(null);
+        if (application == null || application.getProcessingState() != ApplicationProcessingState.PARSING) {
+            return null;
         }
 
-        if (currentUser != null) {
-            String actorLink = currentUser.getRole() == UserRole.CANDIDATE ? "/candidate/applications" : "/recruiter/applications";
-            notificationService.createForUser(
-                    currentUser.getId(),
-                    NotificationType.APPLICATION_SUBMITTED,
-                    "Application submitted",
-                    "Your application for \"" + job.getTitle() + "\" was submitted successfully.",
-                    actorLink
-            );
+        Job job = application.getJob();
+        Applicant applicant = application.getApplicant();
+        List<String> processingLogs = new ArrayList<>();
+        if (application.getProcessingLogs() != null) {
+            processingLogs.addAll(application.getProcessingLogs());
+        }
 
-            if (resumeParsedSuccessfully) {
-                notificationService.createForUser(
-                        currentUser.getId(),
-                        NotificationType.RESUME_PARSED_SUCCESS,
-                        "Resume parsing successful",
-                        "Your resume was parsed successfully for \"" + job.getTitle() + "\".",
-                        actorLink
-                );
+        try {
+            processingLogs.add(stageLog("PARSING", "Background processing started (attempt " + application.getProcessingAttempts() + ")"));
+            String parsedResumeText = parseStoredResume(application, processingLogs);
+            if (!saveStage(application, ApplicationProcessingState.SCORING, processingLogs)) {
+                return null;
             }
-        }
 
-        return response;
+            String jobText = buildJobText(job);
+            String candidateText = buildCandidateText(applicant, application.getCoverLetter(), parsedResumeText);
+            runAiScoring(application, applicant, job, jobText, candidateText, processingLogs, "SUBMIT", false, true);
+            indexEmbedding(application, candidateText, processingLogs);
+            if (!saveStage(application, ApplicationProcessingState.NOTIFYING, processingLogs)) {
+                return null;
+            }
+
+            notifySubmissionProcessed(application, job, applicant, !parsedResumeText.isBlank());
+            processingLogs.add(stageLog("COMPLETED", "Application processing finished"));
+            application.setProcessingLeaseExpiresAt(null);
+            return saveStage(application, ApplicationProcessingState.COMPLETED, processingLogs) ? ApplicationProcessingState.COMPLETED : null;
+        } catch (ResumeParserUnavailableException ex) {
+            log.info("Resume parser unavailable, leaving applicationId={} for retry: {}", applicationId, ex.getMessage());
+            processingLogs.add(stageLog("RETRY_SCHEDULED", ex.getMessage()));
+            application.setProcessingLeaseExpiresAt(LocalDateTime.now());
+            return saveStage(application, application.getProcessingState(), processingLogs) ? application.getProcessingState() : null;
+        } catch (Exception ex) {
+            log.warn("Application processing failed applicationId={}", applicationId, ex);
+            processingLogs.add(stageLog("PROCESSING_FAILED", "Background processing failed, retry from recruiter application detail"));
+            if (application.getAiScore() == null) {
+                application.setAiScore(0.0);
+                application.setAiScoreReason("Talentforge AI scoring is temporarily unavailable. Retry from recruiter application detail.");
+                application.setMatchingKeywords("");
+            }
+            application.setProcessingLeaseExpiresAt(null);
+            return saveStage(application, ApplicationProcessingState.FAILED, processingLogs) ? ApplicationProcessingState.FAILED : null;
+        }
     }
 
     @Override
-    public ApplicationResponse rescore(Long id) {
+    public ApplicationResponse rescore(Long id, boolean force) {
         Application application = applicationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found: " + id));
 
@@ -186,21 +218,106 @@ public class ApplicationServiceImpl implements ApplicationService {
             processingLogs.addAll(application.getProcessingLogs());
         }
 
+        if (isProcessing(application.getProcessingState())) {
+            throw new BadRequestException("Application is still being processed");
+        }
+
         processingLogs.add(stageLog("RESCORE_REQUESTED", "Manual AI scoring triggered"));
+        String resumeText = application.getResumeText() == null
+                ? parseStoredResume(application, processingLogs)
+                : truncate(application.getResumeText(), MAX_RESUME_CHARS);
         String jobText = buildJobText(application.getJob());
-        String candidateText = buildCandidateText(
-                application.getApplicant(),
-                application.getCoverLetter(),
-                truncate(application.getResumeText(), MAX_RESUME_CHARS)
-        );
+        String candidateText = buildCandidateText(application.getApplicant(), application.getCoverLetter(), resumeText);
 
-        runAiScoring(application, application.getApplicant(), application.getJob(), jobText, candidateText, processingLogs, "RESCORE");
+        runAiScoring(application, application.getApplicant(), application.getJob(), jobText, candidateText, processingLogs, "RESCORE", force, false);
+        indexEmbedding(application, candidateText, processingLogs);
 
         processingLogs.add(stageLog("RESCORE_COMPLETED", "Application AI score refreshed"));
+        application.setProcessingState(ApplicationProcessingState.COMPLETED);
         application.setProcessingLogs(processingLogs);
         return applicationMapper.toResponse(applicationRepository.save(application));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public JobRescorePage loadRescorePage(Long jobId, Long afterId, int limit) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found: " + jobId));
+        List<Application> applications = applicationRepository.findRescorePage(jobId, afterId == null ? 0L : afterId, PageRequest.of(0, limit));
+        if (applications.isEmpty()) {
+            return new JobRescorePage(buildJobText(job), List.of(), afterId, 0);
+        }
+
+        List<JobRescorePage.Candidate> candidates = new ArrayList<>();
+        int skipped = 0;
+        for (Application application : applications) {
+            if (isProcessing(application.getProcessingState())) {
+                skipped++;
+                continue;
+            }
+            String candidateText = buildCandidateText(
+                    application.getApplicant(),
+                    application.getCoverLetter(),
+                    truncate(application.getResumeText(), MAX_RESUME_CHARS)
+            );
+            candidates.add(new JobRescorePage.Candidate(application.getId(), candidateText));
+        }
+
+        Long lastId = applications.get(applications.size() - 1).getId();
+        return new JobRescorePage(buildJobText(job), candidates, lastId, skipped);
+    }
+
+    @Override
+    public int applyRescoreResults(Map<Long, AiResumeScoreResult> results, Map<Long, Integer> candidateTextChars) {
+        if (results.isEmpty()) {
+            return 0;
+        }
+
+        List<Application> applications = applicationRepository.findByIdIn(results.keySet());
+        for (Application application : applications) {
+            List<String> processingLogs = new ArrayList<>();
+            if (application.getProcessingLogs() != null) {
+                processingLogs.addAll(application.getProcessingLogs());
+            }
+            processingLogs.add(stageLog("RESCORE_REQUESTED", "Job-level batch AI scoring triggered"));
+            applyScoreResult(
+                    application,
+                    application.getApplicant(),
+                    application.getJob(),
+                    results.get(application.getId()),
+                    candidateTextChars.getOrDefault(application.getId(), 0),
+                    processingLogs,
+                    "BATCH_RESCORE"
+            );
+            processingLogs.add(stageLog("RESCORE_COMPLETED", "Application AI score refreshed"));
+            application.setProcessingLogs(processingLogs);
+        }
+        return applications.size();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ApplicationSimilarityResponse> rankBySimilarity(Long jobId, int limit) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found: " + jobId));
+        if (!textEmbeddingService.isEnabled()) {
+            throw new AiServiceUnavailableException("Semantic ranking is disabled");
+        }
+
+        float[] query = textEmbeddingService.embed(buildJobText(job)).vector();
+        return applicationVectorIndex.rank(jobId, query, Math.max(1, Math.min(200, limit)))
+                .stream()
+                .map(match -> new ApplicationSimilarityResponse(
+                        match.application().applicationId(),
+                        match.application().applicantId(),
+                        match.application().applicantName(),
+                        match.application().aiScore(),
+                        Math.round(match.similarity() * 10000.0) / 10000.0,
+                        textEmbeddingService.toScore(match.similarity())
+                ))
+                .toList();
+    }
+
     @Override
     public ApplicationResponse updateStatus(Long id, ApplicationStatus status) {
         Application application = applicationRepository.findById(id)
@@ -234,6 +351,97 @@ public class ApplicationServiceImpl implements ApplicationService {
         return applicationRepository.findByApplicantId(applicantId).stream().map(applicationMapper::toResponse).toList();
     }
 
+    private String parseStoredResume(Application application, List<String> processingLogs) {
+        if (application.getResumeFilePath() == null || application.getResumeFilePath().isBlank()) {
+            return "";
+        }
+
+        try {
+            String parsedResumeText = truncate(
+                    resumeParserService.extractText(
+                            application.getResumeFileName(),
+                            application.getResumeFileType(),
+                            Path.of(application.getResumeFilePath())
+                    ),
+                    MAX_RESUME_CHARS
+            );
+            processingLogs.add(stageLog("RESUME_PARSED", "Extracted characters: " + parsedResumeText.length()));
+            application.setResumeText(parsedResumeText);
+            return parsedResumeText;
+        } catch (IOException ex) {
+            processingLogs.add(stageLog("RESUME_PROCESSING_FAILED", "Resume parsing failed, using profile fallback"));
+            log.warn("Resume parsing failed for applicationId={}", application.getId(), ex);
+            return "";
+        }
+    }
+
+    private boolean saveStage(Application application, ApplicationProcessingState state, List<String> processingLogs) {
+        application.setProcessingState(state);
+        application.setProcessingLogs(new ArrayList<>(processingLogs));
+        int updated = applicationRepository.updateProcessingFields(
+                application.getId(),
+                application.getProcessingAttempts(),
+                state,
+                application.getProcessingLogs(),
+                application.getProcessingLeaseExpiresAt(),
+                application.getResumeText(),
+                application.getPrescreenScore(),
+                application.getAiScore(),
+                application.getAiScoreReason(),
+                application.getMatchingKeywords(),
+                application.getEmbeddingHash(),
+                LocalDateTime.now()
+        );
+        if (updated == 0) {
+            log.info("Application processing claim lost, dropping {} stage applicationId={}", state, application.getId());
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isProcessing(ApplicationProcessingState state) {
+        return state != null && state != ApplicationProcessingState.COMPLETED && state != ApplicationProcessingState.FAILED;
+    }
+
+    private void notifySubmissionProcessed(Application application, Job job, Applicant applicant, boolean resumeParsedSuccessfully) {
+        String scoreText = application.getAiScore() == null ? "" : " Talentforge AI score: " + application.getAiScore() + ".";
+        if (job.getRecruiter() != null) {
+            notificationService.createForUser(
+                    job.getRecruiter().getId(),
+                    NotificationType.NEW_APPLICANT,
+                    "New applicant received",
+                    applicant.getFullName() + " applied for \"" + job.getTitle() + "\"." + scoreText,
+                    "/recruiter/applications"
+            );
+        }
+
+        User submitter = application.getSubmittedByUserId() == null
+                ? null
+                : userRepository.findById(application.getSubmittedByUserId()).orElse(null);
+        if (submitter == null) {
+            return;
+        }
+
+        String actorLink = submitter.getRole() == UserRole.CANDIDATE ? "/candidate/applications" : "/recruiter/applications";
+        notificationService.createForUser(
+                submitter.getId(),
+                NotificationType.APPLICATION_SUBMITTED,
+                "Application submitted",
+                "Your application for \"" + job.getTitle() + "\" was submitted successfully.",
+                actorLink
+        );
+
+        if (resumeParsedSuccessfully) {
+            notificationService.createForUser(
+                    submitter.getId(),
+                    NotificationType.RESUME_PARSED_SUCCESS,
+                    "Resume parsing successful",
+                    "Your resume was parsed successfully for \"" + job.getTitle() + "\".",
+                    actorLink
+            );
+        }
+    }
+
     private void runAiScoring(
             Application application,
             Applicant applicant,
@@ -241,7 +449,9 @@ public class ApplicationServiceImpl implements ApplicationService {
             String jobText,
             String candidateText,
             List<String> processingLogs,
-            String trigger
+            String trigger,
+            boolean bypassCache,
+            boolean screened
     ) {
         if (candidateText.isBlank()) {
             processingLogs.add(stageLog("AI_SKIPPED", "No candidate text available for AI scoring"));
@@ -251,32 +461,40 @@ public class ApplicationServiceImpl implements ApplicationService {
             return;
         }
 
+        AiPreScreenResult preScreen = preScreenScorer.score(jobText, candidateText);
+        application.setPrescreenScore(preScreen.score());
+        processingLogs.add(stageLog("PRESCREENED", "Deterministic pre-screen score: " + preScreen.score()));
+        if (screened) {
+            AiScreeningPolicy.Decision decision = aiScreeningPolicy.evaluate(job.getId(), preScreen);
+            if (!decision.callLlm()) {
+                processingLogs.add(stageLog("AI_SKIPPED", decision.reason()));
+                boolean semantic = textEmbeddingService.isEnabled();
+                AiResumeScoreResult screenedResult = semantic
+                        ? aiAssistantService.scoreResumeSemantic(jobText, candidateText)
+                        : new AiResumeScoreResult(preScreen.score(), "Talentforge pre-screen only.", preScreen.matchingKeywords());
+                AiResumeScoreResult skippedResult = new AiResumeScoreResult(
+                        screenedResult.score(),
+                        screenedResult.reason() + " LLM scoring skipped: " + decision.reason() + ". Rescore to request a full AI evaluation.",
+                        screenedResult.matchingKeywords()
+                );
+                applyScoreResult(application, applicant, job, skippedResult, candidateText.length(), processingLogs, trigger);
+                applicant.getAiAnalysis().put("provider", semantic ? "Talentforge semantic" : "Talentforge pre-screen");
+                applicantRepository.updateAiScore(applicant.getId(), applicant.getAiScore(), applicant.getAiAnalysis());
+                return;
+            }
+            processingLogs.add(stageLog("AI_GATE_PASSED", decision.reason()));
+        }
+
         try {
             processingLogs.add(stageLog("AI_SCORING", "Computing Talentforge AI score (trigger=" + trigger + ")"));
-            AiResumeScoreResult scoreResult = aiAssistantService.scoreResume(jobText, truncate(candidateText, MAX_CANDIDATE_TEXT_CHARS));
-
-            double boundedScore = Math.max(0, Math.min(100, scoreResult.score()));
-            String reason = normalizeReason(scoreResult.reason());
-            String keywords = normalizeKeywords(scoreResult.matchingKeywords());
-
-            application.setAiScore(boundedScore);
-            application.setAiScoreReason(reason);
-            application.setMatchingKeywords(keywords);
-            processingLogs.add(stageLog("AI_SCORED", "AI score computed: " + boundedScore));
-
-            Map<String, Object> aiAnalysis = new LinkedHashMap<>();
-            aiAnalysis.put("provider", "Talentforge AI");
-            aiAnalysis.put("score", boundedScore);
-            aiAnalysis.put("skills", keywords);
-            aiAnalysis.put("reasoning", reason);
-            aiAnalysis.put("processedAt", LocalDateTime.now().toString());
-            aiAnalysis.put("jobTitle", job.getTitle());
-            aiAnalysis.put("trigger", trigger);
-            aiAnalysis.put("candidateTextChars", candidateText.length());
+            AiResumeScoreResult scoreResult = aiAssistantService.scoreResume(
+                    jobText,
+                    truncate(candidateText, MAX_CANDIDATE_TEXT_CHARS),
+                    AiScoreOptions.forJob(job.getId(), bypassCache)
+            );
 
-            applicant.setAiScore(boundedScore);
-            applicant.setAiAnalysis(aiAnalysis);
-            applicantRepository.save(applicant);
+            applyScoreResult(application, applicant, job, scoreResult, candidateText.length(), processingLogs, trigger);
+            applicantRepository.updateAiScore(applicant.getId(), applicant.getAiScore(), applicant.getAiAnalysis());
             processingLogs.add(stageLog("APPLICANT_UPDATED", "Applicant ai_score and ai_analysis updated"));
         } catch (Exception ex) {
             processingLogs.add(stageLog("AI_FAILED", "AI scoring failed, deterministic fallback applied"));
@@ -295,10 +513,58 @@ public class ApplicationServiceImpl implements ApplicationService {
             aiAnalysis.put("failed", true);
             applicant.setAiScore(0.0);
             applicant.setAiAnalysis(aiAnalysis);
-            applicantRepository.save(applicant);
+            applicantRepository.updateAiScore(applicant.getId(), applicant.getAiScore(), applicant.getAiAnalysis());
         }
     }
 
+    private void indexEmbedding(Application application, String candidateText, List<String> processingLogs) {
+        if (candidateText.isBlank() || !textEmbeddingService.isEnabled()) {
+            return;
+        }
+
+        try {
+            AiTextEmbedding embedding = textEmbeddingService.embed(candidateText);
+            application.setEmbeddingHash(embedding.contentHash());
+            applicationVectorIndex.invalidate(application.getJob().getId());
+            processingLogs.add(stageLog("EMBEDDED", "Semantic vector indexed for similarity ranking"));
+        } catch (Exception ex) {
+            processingLogs.add(stageLog("EMBEDDING_FAILED", "Semantic indexing skipped, ranking will omit this application"));
+            log.debug("Embedding failed for applicationId={}", application.getId(), ex);
+        }
+    }
+
+    private void applyScoreResult(
+            Application application,
+            Applicant applicant,
+            Job job,
+            AiResumeScoreResult scoreResult,
+            int candidateTextChars,
+            List<String> processingLogs,
+            String trigger
+    ) {
+        double boundedScore = Math.max(0, Math.min(100, scoreResult.score()));
+        String reason = normalizeReason(scoreResult.reason());
+        String keywords = normalizeKeywords(scoreResult.matchingKeywords());
+
+        application.setAiScore(boundedScore);
+        application.setAiScoreReason(reason);
+        application.setMatchingKeywords(keywords);
+        processingLogs.add(stageLog("AI_SCORED", "AI score computed: " + boundedScore));
+
+        Map<String, Object> aiAnalysis = new LinkedHashMap<>();
+        aiAnalysis.put("provider", "Talentforge AI");
+        aiAnalysis.put("score", boundedScore);
+        aiAnalysis.put("skills", keywords);
+        aiAnalysis.put("reasoning", reason);
+        aiAnalysis.put("processedAt", LocalDateTime.now().toString());
+        aiAnalysis.put("jobTitle", job.getTitle());
+        aiAnalysis.put("trigger", trigger);
+        aiAnalysis.put("candidateTextChars", candidateTextChars);
+
+        applicant.setAiScore(boundedScore);
+        applicant.setAiAnalysis(aiAnalysis);
+    }
+
     private String buildJobText(Job job) {
         StringBuilder builder = new StringBuilder();
         appendSection(builder, "Title", job.getTitle());
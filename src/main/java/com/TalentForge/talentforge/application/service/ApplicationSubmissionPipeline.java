@@ -0,0 +1,169 @@
+package com.TalentForge.talentforge.application.service;
+
+import com.TalentForge.talentforge.application.entity.ApplicationProcessingState;
+import com.TalentForge.talentforge.application.repository.ApplicationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Slf4j
+public class ApplicationSubmissionPipeline {
+
+    private static final AtomicInteger APPLICATION_PIPELINE_THREAD_COUNTER = new AtomicInteger(0);
+    private static final Set<ApplicationProcessingState> ACTIVE_STATES = EnumSet.of(
+            ApplicationProcessingState.PARSING,
+            ApplicationProcessingState.SCORING,
+            ApplicationProcessingState.NOTIFYING
+    );
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationService applicationService;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long leaseMs;
+    private final long recoveryGraceMs;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor pipelineExecutor;
+    private final Set<Long> queuedApplicationIds = ConcurrentHashMap.newKeySet();
+
+    public ApplicationSubmissionPipeline(
+            ApplicationRepository applicationRepository,
+            ApplicationService applicationService,
+            MeterRegistry meterRegistry,
+            @Value("${app.application-pipeline.threads:2}") int threads,
+            @Value("${app.application-pipeline.queue-capacity:200}") int queueCapacity,
+            @Value("${app.application-pipeline.max-attempts:3}") int maxAttempts,
+            @Value("${app.application-pipeline.lease-ms:180000}") long leaseMs,
+            @Value("${app.application-pipeline.recovery-grace-ms:60000}") long recoveryGraceMs
+    ) {
+        this.applicationRepository = applicationRepository;
+        this.applicationService = applicationService;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.leaseMs = Math.max(10000L, leaseMs);
+        this.recoveryGraceMs = Math.max(1000L, recoveryGraceMs);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        int poolSize = Math.max(1, threads);
+        this.pipelineExecutor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(this.queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable);
+                    thread.setName("application-pipeline-" + APPLICATION_PIPELINE_THREAD_COUNTER.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        meterRegistry.gauge("talentforge.application_pipeline.queue_depth", pipelineExecutor, executor -> executor.getQueue().size());
+        meterRegistry.gauge("talentforge.application_pipeline.active", pipelineExecutor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+        enqueue(event.applicationId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.application-pipeline.recovery-interval-ms:30000}")
+    public void recoverStalled() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int failed = applicationRepository.failExhaustedProcessing(
+                    ApplicationProcessingState.FAILED,
+                    ACTIVE_STATES,
+                    maxAttempts,
+                    "Talentforge AI scoring is temporarily unavailable. Retry from recruiter application detail.",
+                    now
+            );
+            if (failed > 0) {
+                meterRegistry.counter("talentforge.application_pipeline.processed", "outcome", "EXHAUSTED").increment(failed);
+                log.warn("Marked {} applications as failed after {} processing attempts", failed, maxAttempts);
+            }
+
+            int capacity = queueCapacity - pipelineExecutor.getQueue().size();
+            if (capacity <= 0) {
+                return;
+            }
+            List<Long> stalled = applicationRepository.findStalledProcessingIds(
+                    ApplicationProcessingState.PENDING_SCORING,
+                    ACTIVE_STATES,
+                    now.minusNanos(recoveryGraceMs * 1_000_000L),
+                    now,
+                    PageRequest.of(0, capacity)
+            );
+            stalled.forEach(this::enqueue);
+        } catch (Exception ex) {
+            log.warn("Application pipeline recovery sweep failed", ex);
+        }
+    }
+
+    private void enqueue(Long applicationId) {
+        if (applicationId == null || !queuedApplicationIds.add(applicationId)) {
+            return;
+        }
+
+        try {
+            pipelineExecutor.execute(() -> run(applicationId));
+        } catch (RejectedExecutionException ex) {
+            queuedApplicationIds.remove(applicationId);
+            meterRegistry.counter("talentforge.application_pipeline.rejected").increment();
+            log.debug("Application pipeline queue is full, applicationId={} left for recovery sweep", applicationId);
+        }
+    }
+
+    private void run(Long applicationId) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int claimed = applicationRepository.claimForProcessing(
+                    applicationId,
+                    ApplicationProcessingState.PARSING,
+                    ApplicationProcessingState.PENDING_SCORING,
+                    ACTIVE_STATES,
+                    maxAttempts,
+                    now.plusNanos(leaseMs * 1_000_000L),
+                    now
+            );
+            if (claimed == 0) {
+                return;
+            }
+
+            ApplicationProcessingState outcome = applicationService.processSubmission(applicationId);
+            if (outcome != null) {
+                meterRegistry.counter("talentforge.application_pipeline.processed", "outcome", outcome.name()).increment();
+            }
+        } catch (Exception ex) {
+            log.warn("Application pipeline crashed applicationId={}", applicationId, ex);
+        } finally {
+            queuedApplicationIds.remove(applicationId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdownPipelineExecutor() throws InterruptedException {
+        pipelineExecutor.shutdown();
+        if (!pipelineExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            pipelineExecutor.shutdownNow();
+        }
+    }
+}
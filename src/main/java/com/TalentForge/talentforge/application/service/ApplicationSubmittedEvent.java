@@ -0,0 +1,4 @@
+package com.TalentForge.talentforge.application.service;
+
+public record ApplicationSubmittedEvent(Long applicationId) {
+}
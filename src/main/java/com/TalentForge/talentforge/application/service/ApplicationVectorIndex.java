@@ -0,0 +1,118 @@
+package com.TalentForge.talentforge.application.service;
+
+import com.TalentForge.talentforge.ai.service.TextEmbeddingService;
+import com.TalentForge.talentforge.application.dto.ApplicationEmbeddingRow;
+import com.TalentForge.talentforge.application.repository.ApplicationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/** Per-job brute-force vector index over application embeddings. */
+@Component
+public class ApplicationVectorIndex {
+
+    private final ApplicationRepository applicationRepository;
+    private final long ttlMs;
+    private final Map<Long, JobVectors> byJob;
+    private final Timer scanTimer;
+
+    public ApplicationVectorIndex(
+            ApplicationRepository applicationRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.ai.embedding.index.max-jobs:32}") int maxJobs,
+            @Value("${app.ai.embedding.index.ttl-ms:60000}") long ttlMs
+    ) {
+        this.applicationRepository = applicationRepository;
+        this.ttlMs = Math.max(1000L, ttlMs);
+        int capacity = Math.max(1, maxJobs);
+        this.byJob = new LinkedHashMap<>(Math.min(capacity, 64), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, JobVectors> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.scanTimer = meterRegistry.timer("talentforge.ai.embedding.index.scan");
+        meterRegistry.gauge("talentforge.ai.embedding.index.jobs", this, index -> index.cachedJobs());
+    }
+
+    public List<Match> rank(Long jobId, float[] query, int limit) {
+        JobVectors vectors = vectors(jobId, query.length);
+        if (vectors.size() == 0) {
+            return List.of();
+        }
+
+        return scanTimer.record(() -> {
+            PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Match::similarity));
+            for (int row = 0; row < vectors.size(); row++) {
+                float similarity = TextEmbeddingService.dot(vectors.matrix, row * vectors.dimensions, query, vectors.dimensions);
+                if (top.size() < limit) {
+                    top.offer(new Match(vectors.rows.get(row), similarity));
+                } else if (similarity > top.peek().similarity()) {
+                    top.poll();
+                    top.offer(new Match(vectors.rows.get(row), similarity));
+                }
+            }
+
+            List<Match> ranked = new ArrayList<>(top);
+            ranked.sort(Comparator.comparingDouble(Match::similarity).reversed());
+            return ranked;
+        });
+    }
+
+    public void invalidate(Long jobId) {
+        synchronized (byJob) {
+            byJob.remove(jobId);
+        }
+    }
+
+    private JobVectors vectors(Long jobId, int dimensions) {
+        long now = System.currentTimeMillis();
+        synchronized (byJob) {
+            JobVectors cached = byJob.get(jobId);
+            if (cached != null && cached.dimensions == dimensions && now - cached.loadedAt < ttlMs) {
+                return cached;
+            }
+        }
+
+        List<ApplicationEmbeddingRow> rows = new ArrayList<>();
+        for (ApplicationEmbeddingRow row : applicationRepository.findEmbeddingRows(jobId)) {
+            if (row.embedding().length == dimensions * Float.BYTES) {
+                rows.add(row);
+            }
+        }
+        float[] matrix = new float[rows.size() * dimensions];
+        for (int row = 0; row < rows.size(); row++) {
+            TextEmbeddingService.decodeInto(rows.get(row).embedding(), matrix, row * dimensions);
+        }
+        rows.replaceAll(row -> new ApplicationEmbeddingRow(row.applicationId(), row.applicantId(), row.applicantName(), row.aiScore(), null));
+
+        JobVectors loaded = new JobVectors(rows, matrix, dimensions, now);
+        synchronized (byJob) {
+            byJob.put(jobId, loaded);
+        }
+        return loaded;
+    }
+
+    private int cachedJobs() {
+        synchronized (byJob) {
+            return byJob.size();
+        }
+    }
+
+    public record Match(ApplicationEmbeddingRow application, float similarity) {
+    }
+
+    private record JobVectors(List<ApplicationEmbeddingRow> rows, float[] matrix, int dimensions, long loadedAt) {
+        private int size() {
+            return rows.size();
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.TalentForge.talentforge.application.service;
+
+import com.TalentForge.talentforge.ai.dto.AiResumeScoreResult;
+import com.TalentForge.talentforge.ai.dto.AiScoreOptions;
+import com.TalentForge.talentforge.ai.service.AiAssistantService;
+import com.TalentForge.talentforge.application.dto.JobRescorePage;
+import com.TalentForge.talentforge.application.dto.JobRescoreProgressResponse;
+import com.TalentForge.talentforge.application.repository.ApplicationRepository;
+import com.TalentForge.talentforge.common.exception.ResourceNotFoundException;
+import com.TalentForge.talentforge.job.repository.JobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@Slf4j
+public class JobRescoreService {
+
+    private static final AtomicInteger RESCORE_THREAD_COUNTER = new AtomicInteger(0);
+
+    private final ApplicationService applicationService;
+    private final ApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final AiAssistantService aiAssistantService;
+    private final MeterRegistry meterRegistry;
+    private final int pageSize;
+    private final int candidatesPerPrompt;
+    private final long retentionMinutes;
+    private final ExecutorService batchExecutor;
+    private final ExecutorService llmExecutor;
+    private final Map<String, JobRescoreBatch> batches = new ConcurrentHashMap<>();
+    private final Map<Long, String> activeBatchByJob = new ConcurrentHashMap<>();
+
+    public JobRescoreService(
+            ApplicationService applicationService,
+            ApplicationRepository applicationRepository,
+            JobRepository jobRepository,
+            AiAssistantService aiAssistantService,
+            MeterRegistry meterRegistry,
+            @Value("${app.rescore-batch.page-size:100}") int pageSize,
+            @Value("${app.rescore-batch.max-concurrent-batches:2}") int maxConcurrentBatches,
+            @Value("${app.rescore-batch.llm-concurrency:2}") int llmConcurrency,
+            @Value("${app.ai.score-batch.max-candidates:4}") int candidatesPerPrompt,
+            @Value("${app.rescore-batch.retention-minutes:60}") long retentionMinutes
+    ) {
+        this.applicationService = applicationService;
+        this.applicationRepository = applicationRepository;
+        this.jobRepository = jobRepository;
+        this.aiAssistantService = aiAssistantService;
+        this.meterRegistry = meterRegistry;
+        this.pageSize = Math.max(10, Math.min(500, pageSize));
+        this.candidatesPerPrompt = Math.max(1, Math.min(10, candidatesPerPrompt));
+        this.retentionMinutes = Math.max(1L, retentionMinutes);
+        this.batchExecutor = Executors.newFixedThreadPool(Math.max(1, maxConcurrentBatches), runnable -> newThread(runnable, "rescore-batch-"));
+        this.llmExecutor = Executors.newFixedThreadPool(Math.max(1, llmConcurrency), runnable -> newThread(runnable, "rescore-llm-"));
+    }
+
+    public JobRescoreProgressResponse start(Long jobId, boolean force) {
+        if (!jobRepository.existsById(jobId)) {
+            throw new ResourceNotFoundException("Job not found: " + jobId);
+        }
+
+        JobRescoreBatch batch = new JobRescoreBatch(UUID.randomUUID().toString(), jobId, force, applicationRepository.countByJobId(jobId));
+        batches.put(batch.id, batch);
+        String existingBatchId;
+        while ((existingBatchId = activeBatchByJob.putIfAbsent(jobId, batch.id)) != null) {
+            JobRescoreBatch existing = batches.get(existingBatchId);
+            if (existing != null) {
+                batches.remove(batch.id);
+                return existing.toResponse();
+            }
+            activeBatchByJob.remove(jobId, existingBatchId);
+        }
+
+        batchExecutor.execute(() -> run(batch));
+        return batch.toResponse();
+    }
+
+    public JobRescoreProgressResponse getProgress(String batchId) {
+        JobRescoreBatch batch = batches.get(batchId);
+        if (batch == null) {
+            throw new ResourceNotFoundException("Rescore batch not found: " + batchId);
+        }
+        return batch.toResponse();
+    }
+
+    @Scheduled(fixedDelayString = "${app.rescore-batch.cleanup-interval-ms:600000}")
+    public void evictFinishedBatches() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        batches.values().removeIf(batch -> batch.completedAt != null && batch.completedAt.isBefore(cutoff));
+    }
+
+    private void run(JobRescoreBatch batch) {
+        try {
+            Long afterId = 0L;
+            while (true) {
+                JobRescorePage page = applicationService.loadRescorePage(batch.jobId, afterId, pageSize);
+                if (page.candidates().isEmpty() && page.skipped() == 0) {
+                    break;
+                }
+
+                afterId = page.lastId();
+                batch.skipped.addAndGet(page.skipped());
+                batch.processed.addAndGet(page.skipped());
+                scorePage(batch, page);
+            }
+            batch.finish("COMPLETED");
+        } catch (Exception ex) {
+            log.warn("Job rescore batch failed batchId={} jobId={}", batch.id, batch.jobId, ex);
+            batch.finish("FAILED");
+        } finally {
+            activeBatchByJob.remove(batch.jobId, batch.id);
+            meterRegistry.counter("talentforge.rescore_batch.completed", "status", batch.status).increment();
+        }
+    }
+
+    private void scorePage(JobRescoreBatch batch, JobRescorePage page) throws InterruptedException {
+        Map<String, List<Long>> applicationIdsByText = new LinkedHashMap<>();
+        Map<Long, Integer> candidateTextChars = new HashMap<>();
+        for (JobRescorePage.Candidate candidate : page.candidates()) {
+            applicationIdsByText.computeIfAbsent(candidate.candidateText(), key -> new ArrayList<>()).add(candidate.applicationId());
+            candidateTextChars.put(candidate.applicationId(), candidate.candidateText().length());
+        }
+
+        AiScoreOptions options = AiScoreOptions.forJob(batch.jobId, batch.force);
+        List<String> pending = new ArrayList<>();
+        for (String candidateText : applicationIdsByText.keySet()) {
+            if (!candidateText.isBlank() && !batch.resultsByTextHash.containsKey(textHash(candidateText))) {
+                pending.add(candidateText);
+            }
+        }
+
+        Map<String, ScoringSlot> scoring = new HashMap<>();
+        for (int start = 0; start < pending.size(); start += candidatesPerPrompt) {
+            List<String> chunk = List.copyOf(pending.subList(start, Math.min(pending.size(), start + candidatesPerPrompt)));
+            Future<List<AiResumeScoreResult>> future = llmExecutor.submit(() -> aiAssistantService.scoreResumes(page.jobText(), chunk, options));
+            for (int position = 0; position < chunk.size(); position++) {
+                scoring.put(chunk.get(position), new ScoringSlot(future, position));
+            }
+        }
+
+        Map<Long, AiResumeScoreResult> results = new HashMap<>();
+        for (Map.Entry<String, List<Long>> group : applicationIdsByText.entrySet()) {
+            String candidateText = group.getKey();
+            List<Long> applicationIds = group.getValue();
+            if (candidateText.isBlank()) {
+                batch.skipped.addAndGet(applicationIds.size());
+                batch.processed.addAndGet(applicationIds.size());
+                continue;
+            }
+
+            String textHash = textHash(candidateText);
+            AiResumeScoreResult result = batch.resultsByTextHash.get(textHash);
+            if (result == null) {
+                try {
+                    ScoringSlot slot = scoring.get(candidateText);
+                    result = slot.future().get().get(slot.position());
+                    batch.resultsByTextHash.put(textHash, result);
+                    batch.scored.incrementAndGet();
+                    batch.reused.addAndGet(applicationIds.size() - 1);
+                } catch (ExecutionException ex) {
+                    log.warn("Batch AI scoring failed batchId={} applicationIds={}", batch.id, applicationIds, ex.getCause());
+                    batch.failed.addAndGet(applicationIds.size());
+                    batch.processed.addAndGet(applicationIds.size());
+                    continue;
+                }
+            } else {
+                batch.reused.addAndGet(applicationIds.size());
+            }
+
+            AiResumeScoreResult groupResult = result;
+            applicationIds.forEach(applicationId -> results.put(applicationId, groupResult));
+        }
+
+        int written = applicationService.applyRescoreResults(results, candidateTextChars);
+        batch.processed.addAndGet(written);
+    }
+
+    private String textHash(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private Thread newThread(Runnable runnable, String prefix) {
+        Thread thread = new Thread(runnable);
+        thread.setName(prefix + RESCORE_THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @PreDestroy
+    public void shutdownRescoreExecutors() throws InterruptedException {
+        batchExecutor.shutdownNow();
+        llmExecutor.shutdownNow();
+        llmExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private record ScoringSlot(Future<List<AiResumeScoreResult>> future, int position) {
+    }
+
+    private static final class JobRescoreBatch {
+        private final String id;
+        private final Long jobId;
+        private final boolean force;
+        private final long total;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong scored = new AtomicLong();
+        private final AtomicLong reused = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final Map<String, AiResumeScoreResult> resultsByTextHash = new HashMap<>();
+        private volatile String status = "RUNNING";
+        private volatile LocalDateTime completedAt;
+
+        private JobRescoreBatch(String id, Long jobId, boolean force, long total) {
+            this.id = id;
+            this.jobId = jobId;
+            this.force = force;
+            this.total = total;
+        }
+
+        private void finish(String finalStatus) {
+            completedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        private JobRescoreProgressResponse toResponse() {
+            return new JobRescoreProgressResponse(
+                    id,
+                    jobId,
+                    status,
+                    total,
+                    processed.get(),
+                    scored.get(),
+                    reused.get(),
+                    skipped.get(),
+                    failed.get(),
+                    startedAt,
+                    completedAt
+            );
+        }
+    }
+}
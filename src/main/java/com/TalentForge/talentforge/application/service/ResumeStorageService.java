@@ -1,5 +1,6 @@
 package com.TalentForge.talentforge.application.service;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -12,6 +13,7 @@ import java.nio.file.StandardCopyOption;
 import java.util.UUID;
 
 @Service
+@Slf4j
 public class ResumeStorageService {
 
     private final Path resumeDir;
@@ -32,4 +34,20 @@ public class ResumeStorageService {
         Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
         return target.toString();
     }
+
+    public void delete(String storedPath) {
+        if (storedPath == null || storedPath.isBlank()) {
+            return;
+        }
+
+        Path target = Paths.get(storedPath).toAbsolutePath().normalize();
+        if (!target.startsWith(resumeDir.toAbsolutePath().normalize())) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException ex) {
+            log.warn("Failed to delete stored resume {}", target, ex);
+        }
+    }
 }
@@ -6,6 +6,7 @@ import com.TalentForge.talentforge.auth.dto.LoginRoleOptionsResponse;
 import com.TalentForge.talentforge.auth.dto.RegisterRequest;
 import com.TalentForge.talentforge.common.exception.BadRequestException;
 import com.TalentForge.talentforge.security.JwtService;
+import com.TalentForge.talentforge.security.UserStatusCache;
 import com.TalentForge.talentforge.subscription.entity.PlanType;
 import com.TalentForge.talentforge.subscription.entity.Subscription;
 import com.TalentForge.talentforge.subscription.repository.SubscriptionRepository;
@@ -39,6 +40,7 @@ public class AuthServiceImpl implements AuthService {
     private final UserMapper userMapper;
     private final OtpService otpService;
     private final EmailService emailService;
+    private final UserStatusCache userStatusCache;
 
     @Override
     public void sendOtp(String email) {
@@ -175,6 +177,8 @@ public class AuthServiceImpl implements AuthService {
     }
 
     private AuthResponse buildAuthResponse(User user) {
+        // Login, role switches and role upgrades all land here after changing the active role.
+        userStatusCache.invalidate(user.getId());
         String token = jwtService.generateToken(user);
         return new AuthResponse(token, userMapper.toResponse(user));
     }
@@ -2,17 +2,22 @@ package com.TalentForge.talentforge.chat.controller;
 
 import com.TalentForge.talentforge.chat.dto.ChatMessageResponse;
 import com.TalentForge.talentforge.chat.dto.ChatRequest;
+import com.TalentForge.talentforge.chat.dto.ChatStreamEvent;
 import com.TalentForge.talentforge.chat.service.ChatService;
 import com.TalentForge.talentforge.common.payload.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -32,6 +37,21 @@ public class ChatController {
                 .build());
     }
 
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ChatStreamEvent>> stream(@Valid @RequestBody ChatRequest request) {
+        return chatService.streamAsk(request)
+                .map(event -> ServerSentEvent.builder(event).event(event.type()).build());
+    }
+
+    @DeleteMapping("/stream/{streamId}")
+    public ResponseEntity<ApiResponse<Boolean>> cancelStream(@PathVariable String streamId) {
+        return ResponseEntity.ok(ApiResponse.<Boolean>builder()
+                .success(true)
+                .message("Chat stream cancelled")
+                .data(chatService.cancelStream(streamId))
+                .build());
+    }
+
     @GetMapping("/{userId}")
     public ResponseEntity<ApiResponse<List<ChatMessageResponse>>> history(@PathVariable Long userId) {
         return ResponseEntity.ok(ApiResponse.<List<ChatMessageResponse>>builder()
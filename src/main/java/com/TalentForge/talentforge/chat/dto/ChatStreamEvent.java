@@ -0,0 +1,20 @@
+package com.TalentForge.talentforge.chat.dto;
+
+public record ChatStreamEvent(
+        String type,
+        String streamId,
+        String content,
+        ChatMessageResponse message
+) {
+    public static ChatStreamEvent started(String streamId) {
+        return new ChatStreamEvent("start", streamId, null, null);
+    }
+
+    public static ChatStreamEvent token(String streamId, String content) {
+        return new ChatStreamEvent("token", streamId, content, null);
+    }
+
+    public static ChatStreamEvent done(String streamId, ChatMessageResponse message) {
+        return new ChatStreamEvent("done", streamId, null, message);
+    }
+}
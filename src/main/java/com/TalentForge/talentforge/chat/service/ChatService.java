@@ -2,11 +2,17 @@ package com.TalentForge.talentforge.chat.service;
 
 import com.TalentForge.talentforge.chat.dto.ChatMessageResponse;
 import com.TalentForge.talentforge.chat.dto.ChatRequest;
+import com.TalentForge.talentforge.chat.dto.ChatStreamEvent;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
 public interface ChatService {
     ChatMessageResponse ask(ChatRequest request);
 
+    Flux<ChatStreamEvent> streamAsk(ChatRequest request);
+
+    boolean cancelStream(String streamId);
+
     List<ChatMessageResponse> history(Long userId);
 }
@@ -3,6 +3,7 @@ package com.TalentForge.talentforge.chat.service;
 import com.TalentForge.talentforge.ai.service.AiAssistantService;
 import com.TalentForge.talentforge.chat.dto.ChatMessageResponse;
 import com.TalentForge.talentforge.chat.dto.ChatRequest;
+import com.TalentForge.talentforge.chat.dto.ChatStreamEvent;
 import com.TalentForge.talentforge.chat.entity.ChatMessage;
 import com.TalentForge.talentforge.chat.entity.SenderType;
 import com.TalentForge.talentforge.chat.mapper.ChatMessageMapper;
@@ -10,9 +11,18 @@ import com.TalentForge.talentforge.chat.repository.ChatMessageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 @Slf4j
@@ -22,6 +32,7 @@ public class ChatServiceImpl implements ChatService {
     private final ChatMessageRepository chatMessageRepository;
     private final ChatMessageMapper chatMessageMapper;
     private final AiAssistantService aiAssistantService;
+    private final Map<String, ActiveChatStream> activeStreams = new ConcurrentHashMap<>();
 
     @Override
     public ChatMessageResponse ask(ChatRequest request) {
@@ -51,6 +62,69 @@ public class ChatServiceImpl implements ChatService {
         return chatMessageMapper.toResponse(chatMessageRepository.save(botMessage));
     }
 
+    @Override
+    public Flux<ChatStreamEvent> streamAsk(ChatRequest request) {
+        String streamId = UUID.randomUUID().toString();
+        ActiveChatStream activeStream = new ActiveChatStream(Sinks.empty(), new AtomicBoolean(false));
+        StringBuilder reply = new StringBuilder();
+        AtomicBoolean persisted = new AtomicBoolean(false);
+
+        Flux<ChatStreamEvent> tokens = aiAssistantService.streamChatReply(request.message())
+                .takeUntilOther(activeStream.cancelSignal().asMono())
+                .filter(token -> !token.isEmpty())
+                .doOnNext(reply::append)
+                .map(token -> ChatStreamEvent.token(streamId, token))
+                .onErrorResume(ex -> {
+                    if (!reply.isEmpty()) {
+                        log.warn("AI chat stream interrupted for userId={} after {} chars. reason={}", request.userId(), reply.length(), ex.getMessage());
+                        return Flux.empty();
+                    }
+                    log.warn("AI chat stream unavailable for userId={}. Falling back to deterministic reply. reason={}",
+                            request.userId(),
+                            ex.getMessage());
+                    log.debug("AI chat stream failure stacktrace for userId={}", request.userId(), ex);
+                    String fallback = fallbackReply(request.message());
+                    reply.append(fallback);
+                    return Flux.just(ChatStreamEvent.token(streamId, fallback));
+                });
+
+        Mono<ChatStreamEvent> started = Mono.fromCallable(() -> {
+            activeStreams.put(streamId, activeStream);
+            saveMessage(request.userId(), SenderType.USER, request.message());
+            return ChatStreamEvent.started(streamId);
+        }).subscribeOn(Schedulers.boundedElastic());
+
+        Mono<ChatStreamEvent> done = Mono.fromCallable(() -> {
+            persisted.set(true);
+            if (reply.isEmpty() && activeStream.cancelled().get()) {
+                return ChatStreamEvent.done(streamId, null);
+            }
+            String finalReply = reply.isEmpty() ? fallbackReply(request.message()) : reply.toString();
+            return ChatStreamEvent.done(streamId, saveMessage(request.userId(), SenderType.BOT, finalReply));
+        }).subscribeOn(Schedulers.boundedElastic());
+
+        return started.concatWith(tokens).concatWith(done)
+                .doFinally(signal -> {
+                    activeStreams.remove(streamId);
+                    if (signal == SignalType.CANCEL && !reply.isEmpty() && persisted.compareAndSet(false, true)) {
+                        Mono.fromRunnable(() -> saveMessage(request.userId(), SenderType.BOT, reply.toString()))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .subscribe(null, ex -> log.warn("Failed to persist cancelled chat reply userId={}", request.userId(), ex));
+                    }
+                });
+    }
+
+    @Override
+    public boolean cancelStream(String streamId) {
+        ActiveChatStream activeStream = activeStreams.remove(streamId);
+        if (activeStream == null) {
+            return false;
+        }
+        activeStream.cancelled().set(true);
+        activeStream.cancelSignal().tryEmitEmpty();
+        return true;
+    }
+
     @Override
     public List<ChatMessageResponse> history(Long userId) {
         return chatMessageRepository.findByUserIdOrderBySentAtAsc(userId)
@@ -59,6 +133,15 @@ public class ChatServiceImpl implements ChatService {
                 .toList();
     }
 
+    private ChatMessageResponse saveMessage(Long userId, SenderType senderType, String message) {
+        ChatMessage chatMessage = ChatMessage.builder()
+                .userId(userId)
+                .senderType(senderType)
+                .message(message)
+                .build();
+        return chatMessageMapper.toResponse(chatMessageRepository.save(chatMessage));
+    }
+
     private String fallbackReply(String message) {
         String normalized = message == null ? "" : message.toLowerCase(Locale.ROOT);
         if (normalized.contains("hello") || normalized.contains("hi")) {
@@ -82,4 +165,7 @@ public class ChatServiceImpl implements ChatService {
 
         return "The AI model is currently unavailable. I can still guide product workflows. Try: 'how do I post a job', 'how do I shortlist candidates', or 'how do I schedule an interview'.";
     }
+
+    private record ActiveChatStream(Sinks.Empty<Void> cancelSignal, AtomicBoolean cancelled) {
+    }
 }
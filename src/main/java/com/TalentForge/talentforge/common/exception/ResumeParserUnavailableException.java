@@ -0,0 +1,7 @@
+package com.TalentForge.talentforge.common.exception;
+
+public class ResumeParserUnavailableException extends RuntimeException {
+    public ResumeParserUnavailableException(String message) {
+        super(message);
+    }
+}
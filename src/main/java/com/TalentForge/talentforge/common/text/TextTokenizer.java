@@ -0,0 +1,82 @@
+package com.TalentForge.talentforge.common.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public final class TextTokenizer {
+
+    private static final int MAX_TOKEN_CHARS = 64;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "about", "all", "an", "and", "any", "are", "as", "at", "be", "by", "can", "description",
+            "experience", "for", "from", "has", "have", "in", "is", "it", "job", "level", "not", "of", "on", "or",
+            "our", "requirements", "role", "should", "team", "that", "the", "their", "this", "title", "to", "type",
+            "using", "was", "we", "who", "will", "with", "work", "years", "you", "your"
+    );
+
+    private TextTokenizer() {
+    }
+
+    @FunctionalInterface
+    public interface TokenVisitor {
+        // chars holds the lowercased token and hash equals the String hashCode it would have; adjacent is true
+        // when only whitespace separates it from the previous token.
+        void visit(char[] chars, int length, int hash, boolean adjacent);
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        scan(text, (chars, length, hash, adjacent) -> {
+            String token = new String(chars, 0, length);
+            if (!STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        });
+        return tokens;
+    }
+
+    public static boolean isStopWord(String token) {
+        return STOP_WORDS.contains(token);
+    }
+
+    public static void scan(String text, TokenVisitor visitor) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        char[] token = new char[MAX_TOKEN_CHARS];
+        int tokenLength = 0;
+        int tokenHash = 0;
+        boolean adjacent = false;
+        int length = text.length();
+        for (int i = 0; i <= length; i++) {
+            char ch = i < length ? text.charAt(i) : ' ';
+            if (isTokenChar(ch) || ((ch == '.' || ch == '/') && tokenLength > 0 && i + 1 < length && Character.isLetterOrDigit(text.charAt(i + 1)))) {
+                if (tokenLength < token.length) {
+                    char lower = ch >= 'A' && ch <= 'Z' ? (char) (ch + 32) : Character.toLowerCase(ch);
+                    token[tokenLength++] = lower;
+                    tokenHash = 31 * tokenHash + lower;
+                }
+                continue;
+            }
+
+            if (tokenLength > 0) {
+                visitor.visit(token, tokenLength, tokenHash, adjacent);
+                tokenLength = 0;
+                tokenHash = 0;
+                adjacent = true;
+            }
+            if (!Character.isWhitespace(ch)) {
+                adjacent = false;
+            }
+        }
+    }
+
+    private static boolean isTokenChar(char ch) {
+        if (ch < 128) {
+            return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') || ch == '+' || ch == '#';
+        }
+        return Character.isLetterOrDigit(ch);
+    }
+}
@@ -56,6 +56,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.PUT, "/api/v1/jobs/**").hasAnyRole("RECRUITER", "CANDIDATE", "ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/jobs/**").hasAnyRole("RECRUITER", "CANDIDATE", "ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/v1/applications/*/rescore").hasAnyRole("RECRUITER", "ADMIN")
+                        .requestMatchers("/api/v1/applications/rescore", "/api/v1/applications/rescore/**").hasAnyRole("RECRUITER", "ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/v1/applications/semantic-ranking").hasAnyRole("RECRUITER", "ADMIN")
                         .requestMatchers("/api/v1/payments/**").hasAnyRole("RECRUITER", "CANDIDATE", "ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/v1/subscriptions/**").hasAnyRole("ADMIN", "RECRUITER")
                         .requestMatchers(HttpMethod.POST, "/api/v1/interviews/**").hasAnyRole("RECRUITER", "ADMIN")
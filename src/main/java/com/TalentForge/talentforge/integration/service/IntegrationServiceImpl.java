@@ -16,14 +16,14 @@ import com.TalentForge.talentforge.integration.repository.IntegrationPublishLogR
 import com.TalentForge.talentforge.integration.repository.RecruiterIntegrationRepository;
 import com.TalentForge.talentforge.job.entity.Job;
 import com.TalentForge.talentforge.job.repository.JobRepository;
+import com.TalentForge.talentforge.security.AuthenticatedUser;
+import com.TalentForge.talentforge.security.CurrentUserAccessor;
 import com.TalentForge.talentforge.user.entity.User;
 import com.TalentForge.talentforge.user.entity.UserRole;
 import com.TalentForge.talentforge.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -47,6 +47,7 @@ public class IntegrationServiceImpl implements IntegrationService {
     private final IntegrationPublishLogRepository integrationPublishLogRepository;
     private final UserRepository userRepository;
     private final JobRepository jobRepository;
+    private final CurrentUserAccessor currentUserAccessor;
 
     @Value("${app.frontend.public-base-url:http://localhost:3000}")
     private String frontendPublicBaseUrl;
@@ -128,7 +129,7 @@ public class IntegrationServiceImpl implements IntegrationService {
 
     @Override
     public IntegrationPublishResponse publish(IntegrationPublishRequest request) {
-        User currentUser = assertCurrentUserCanAccess(request.recruiterId());
+        AuthenticatedUser currentUser = assertCurrentUserCanAccess(request.recruiterId());
         User recruiter = findRecruiter(request.recruiterId());
         Job job = findJobForRecruiter(request.jobId(), recruiter.getId(), currentUser);
 
@@ -143,7 +144,7 @@ public class IntegrationServiceImpl implements IntegrationService {
 
     @Override
     public List<IntegrationPublishResponse> publishAll(IntegrationBulkPublishRequest request) {
-        User currentUser = assertCurrentUserCanAccess(request.recruiterId());
+        AuthenticatedUser currentUser = assertCurrentUserCanAccess(request.recruiterId());
         User recruiter = findRecruiter(request.recruiterId());
         Job job = findJobForRecruiter(request.jobId(), recruiter.getId(), currentUser);
 
@@ -168,7 +169,7 @@ public class IntegrationServiceImpl implements IntegrationService {
     @Override
     @Transactional(readOnly = true)
     public List<IntegrationPublishLogResponse> getPublishLogs(Long recruiterId, Long jobId) {
-        User currentUser = assertCurrentUserCanAccess(recruiterId);
+        AuthenticatedUser currentUser = assertCurrentUserCanAccess(recruiterId);
         findRecruiter(recruiterId);
 
         if (jobId != null) {
@@ -205,12 +206,11 @@ public class IntegrationServiceImpl implements IntegrationService {
         return integrationPublishLogRepository.save(log);
     }
 
-    private Job findJobForRecruiter(Long jobId, Long recruiterId, User currentUser) {
+    private Job findJobForRecruiter(Long jobId, Long recruiterId, AuthenticatedUser currentUser) {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found: " + jobId));
 
-        boolean isAdmin = currentUser.getRole() == UserRole.ADMIN;
-        if (!isAdmin && (job.getRecruiter() == null || !job.getRecruiter().getId().equals(recruiterId))) {
+        if (!currentUser.isAdmin() && (job.getRecruiter() == null || !job.getRecruiter().getId().equals(recruiterId))) {
             throw new AccessDeniedException("You can only publish your own jobs");
         }
 
@@ -228,17 +228,9 @@ public class IntegrationServiceImpl implements IntegrationService {
         return recruiter;
     }
 
-    private User assertCurrentUserCanAccess(Long recruiterId) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new AccessDeniedException("Authentication required");
-        }
-
-        User currentUser = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new AccessDeniedException("Authenticated user not found"));
-
-        boolean isAdmin = currentUser.getRole() == UserRole.ADMIN;
-        if (!isAdmin && !currentUser.getId().equals(recruiterId)) {
+    private AuthenticatedUser assertCurrentUserCanAccess(Long recruiterId) {
+        AuthenticatedUser currentUser = currentUserAccessor.require();
+        if (!currentUser.isAdmin() && !currentUser.id().equals(recruiterId)) {
             throw new AccessDeniedException("You can only access your own integrations");
         }
 
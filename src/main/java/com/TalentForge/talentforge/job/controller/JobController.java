@@ -1,8 +1,15 @@
 package com.TalentForge.talentforge.job.controller;
 
 import com.TalentForge.talentforge.common.payload.ApiResponse;
+import com.TalentForge.talentforge.job.dto.JobIndexHit;
+import com.TalentForge.talentforge.job.dto.JobListingFilter;
+import com.TalentForge.talentforge.job.dto.JobListingResponse;
 import com.TalentForge.talentforge.job.dto.JobRequest;
 import com.TalentForge.talentforge.job.dto.JobResponse;
+import com.TalentForge.talentforge.job.dto.JobSearchResponse;
+import com.TalentForge.talentforge.job.entity.ExperienceLevel;
+import com.TalentForge.talentforge.job.entity.JobStatus;
+import com.TalentForge.talentforge.job.entity.JobType;
 import com.TalentForge.talentforge.job.service.JobService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -54,6 +61,63 @@ public class JobController {
                 .build());
     }
 
+    @GetMapping("/listing")
+    public ResponseEntity<ApiResponse<JobListingResponse>> list(
+            @RequestParam(required = false) JobStatus status,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) JobType jobType,
+            @RequestParam(required = false) ExperienceLevel experienceLevel,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) Long recruiterId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        JobListingFilter filter = new JobListingFilter(status, location, jobType, experienceLevel, department, recruiterId);
+        return ResponseEntity.ok(ApiResponse.<JobListingResponse>builder()
+                .success(true)
+                .message("Jobs fetched")
+                .data(jobService.list(filter, cursor, limit))
+                .build());
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<JobSearchResponse>> search(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) JobStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(ApiResponse.<JobSearchResponse>builder()
+                .success(true)
+                .message("Jobs searched")
+                .data(jobService.search(query, status, cursor, limit))
+                .build());
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<JobIndexHit>>> autocomplete(
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "8") int limit
+    ) {
+        return ResponseEntity.ok(ApiResponse.<List<JobIndexHit>>builder()
+                .success(true)
+                .message("Job suggestions fetched")
+                .data(jobService.autocomplete(prefix, limit))
+                .build());
+    }
+
+    @GetMapping("/quick-search")
+    public ResponseEntity<ApiResponse<List<JobIndexHit>>> quickSearch(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(ApiResponse.<List<JobIndexHit>>builder()
+                .success(true)
+                .message("Jobs searched")
+                .data(jobService.quickSearch(query, limit))
+                .build());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<JobResponse>> getById(@PathVariable Long id) {
         return ResponseEntity.ok(ApiResponse.<JobResponse>builder()
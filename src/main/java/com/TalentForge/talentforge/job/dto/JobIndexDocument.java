@@ -0,0 +1,12 @@
+package com.TalentForge.talentforge.job.dto;
+
+import com.TalentForge.talentforge.job.entity.JobStatus;
+
+public record JobIndexDocument(
+        Long id,
+        String title,
+        String requirements,
+        String department,
+        JobStatus status
+) {
+}
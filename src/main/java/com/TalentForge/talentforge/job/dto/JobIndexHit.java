@@ -0,0 +1,8 @@
+package com.TalentForge.talentforge.job.dto;
+
+public record JobIndexHit(
+        Long jobId,
+        String title,
+        double score
+) {
+}
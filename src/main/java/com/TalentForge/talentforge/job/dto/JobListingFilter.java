@@ -0,0 +1,15 @@
+package com.TalentForge.talentforge.job.dto;
+
+import com.TalentForge.talentforge.job.entity.ExperienceLevel;
+import com.TalentForge.talentforge.job.entity.JobStatus;
+import com.TalentForge.talentforge.job.entity.JobType;
+
+public record JobListingFilter(
+        JobStatus status,
+        String location,
+        JobType jobType,
+        ExperienceLevel experienceLevel,
+        String department,
+        Long recruiterId
+) {
+}
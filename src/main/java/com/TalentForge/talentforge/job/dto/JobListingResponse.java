@@ -0,0 +1,10 @@
+package com.TalentForge.talentforge.job.dto;
+
+import java.util.List;
+
+public record JobListingResponse(
+        List<JobSummaryResponse> items,
+        Long nextCursor,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,25 @@
+package com.TalentForge.talentforge.job.dto;
+
+import com.TalentForge.talentforge.job.entity.ExperienceLevel;
+import com.TalentForge.talentforge.job.entity.JobStatus;
+import com.TalentForge.talentforge.job.entity.JobType;
+
+import java.time.LocalDateTime;
+
+public record JobSearchHit(
+        Long id,
+        String title,
+        String location,
+        String department,
+        String salaryRange,
+        JobType jobType,
+        ExperienceLevel experienceLevel,
+        JobStatus status,
+        Long recruiterId,
+        String recruiterName,
+        LocalDateTime createdAt,
+        LocalDateTime closingDate,
+        double rank,
+        String snippet
+) {
+}
@@ -0,0 +1,11 @@
+package com.TalentForge.talentforge.job.dto;
+
+import java.util.List;
+
+public record JobSearchResponse(
+        String query,
+        List<JobSearchHit> items,
+        String nextCursor,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,11 @@
+package com.TalentForge.talentforge.job.dto;
+
+public record JobTextDocument(
+        Long id,
+        String title,
+        String description,
+        String requirements,
+        String department,
+        String location
+) {
+}
@@ -1,16 +1,75 @@
 package com.TalentForge.talentforge.job.repository;
 
+import com.TalentForge.talentforge.job.dto.JobIndexDocument;
+import com.TalentForge.talentforge.job.dto.JobTextDocument;
 import com.TalentForge.talentforge.job.entity.Job;
 import com.TalentForge.talentforge.job.entity.JobStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.List;
 
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JobRepositoryCustom {
     List<Job> findByRecruiterId(Long recruiterId);
 
     List<Job> findByStatus(JobStatus status);
 
     long countByRecruiterIdAndStatusIn(Long recruiterId, Collection<JobStatus> statuses);
+
+    @Query("""
+            select new com.TalentForge.talentforge.job.dto.JobIndexDocument(j.id, j.title, j.requirements, j.department, j.status)
+            from Job j
+            where j.status = :status and j.id > :afterId
+            order by j.id
+            """)
+    List<JobIndexDocument> findIndexPage(@Param("status") JobStatus status, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            select new com.TalentForge.talentforge.job.dto.JobTextDocument(
+                j.id, j.title, j.description, j.requirements, j.department, j.location
+            )
+            from Job j
+            where j.status = :status and j.id > :afterId
+            order by j.id
+            """)
+    List<JobTextDocument> findTextPage(@Param("status") JobStatus status, @Param("afterId") Long afterId, Pageable pageable);
+
+    // Ranked page over the generated search_vector column (V18). Keyset is (rank DESC, id DESC);
+    // the sentinel cursor (max float, max id) starts from the top. Snippets are only built for
+    // the rows on the page, with the description HTML-escaped before <mark> tags are added.
+    @Query(value = """
+            SELECT j.id AS id, j.title AS title, j.location AS location, j.department AS department,
+                   j.salary_range AS salaryRange, j.job_type AS jobType, j.experience_level AS experienceLevel,
+                   j.status AS status, j.recruiter_id AS recruiterId, u.full_name AS recruiterName,
+                   j.created_at AS createdAt, j.closing_date AS closingDate, ranked.rank AS rank,
+                   ts_headline(
+                       'english',
+                       replace(replace(replace(j.description, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'),
+                       ranked.query,
+                       'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=30, MinWords=10, FragmentDelimiter=" ... "'
+                   ) AS snippet
+            FROM (
+                SELECT s.id, ts_rank_cd(s.search_vector, q.query, 32) AS rank, q.query
+                FROM jobs s
+                CROSS JOIN websearch_to_tsquery('english', :query) AS q(query)
+                WHERE s.search_vector @@ q.query
+                  AND (:status = '' OR s.status = :status)
+            ) ranked
+            JOIN jobs j ON j.id = ranked.id
+            JOIN users u ON u.id = j.recruiter_id
+            WHERE ranked.rank < CAST(:cursorRank AS real)
+               OR (ranked.rank = CAST(:cursorRank AS real) AND ranked.id < :cursorId)
+            ORDER BY ranked.rank DESC, ranked.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<JobSearchRow> searchPage(
+            @Param("query") String query,
+            @Param("status") String status,
+            @Param("cursorRank") float cursorRank,
+            @Param("cursorId") long cursorId,
+            @Param("limit") int limit
+    );
 }
@@ -0,0 +1,10 @@
+package com.TalentForge.talentforge.job.repository;
+
+import com.TalentForge.talentforge.job.dto.JobListingFilter;
+import com.TalentForge.talentforge.job.dto.JobSummaryResponse;
+
+import java.util.List;
+
+public interface JobRepositoryCustom {
+    List<JobSummaryResponse> findListingPage(JobListingFilter filter, long beforeId, int limit);
+}
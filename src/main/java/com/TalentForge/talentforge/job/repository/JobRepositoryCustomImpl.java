@@ -0,0 +1,75 @@
+package com.TalentForge.talentforge.job.repository;
+
+import com.TalentForge.talentforge.job.dto.JobListingFilter;
+import com.TalentForge.talentforge.job.dto.JobSummaryResponse;
+import com.TalentForge.talentforge.job.entity.Job;
+import com.TalentForge.talentforge.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class JobRepositoryCustomImpl implements JobRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Only the filters actually supplied become predicates, so each combination gets its own plan and the
+    // (status, <filter>, id DESC) indexes from V17 can drive the keyset walk.
+    @Override
+    public List<JobSummaryResponse> findListingPage(JobListingFilter filter, long beforeId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobSummaryResponse> query = cb.createQuery(JobSummaryResponse.class);
+        Root<Job> job = query.from(Job.class);
+        Join<Job, User> recruiter = job.join("recruiter");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.lessThan(job.get("id"), beforeId));
+        if (filter.status() != null) {
+            predicates.add(cb.equal(job.get("status"), filter.status()));
+        }
+        if (filter.location() != null) {
+            predicates.add(cb.equal(job.get("location"), filter.location()));
+        }
+        if (filter.jobType() != null) {
+            predicates.add(cb.equal(job.get("jobType"), filter.jobType()));
+        }
+        if (filter.experienceLevel() != null) {
+            predicates.add(cb.equal(job.get("experienceLevel"), filter.experienceLevel()));
+        }
+        if (filter.department() != null) {
+            predicates.add(cb.equal(job.get("department"), filter.department()));
+        }
+        if (filter.recruiterId() != null) {
+            predicates.add(cb.equal(job.get("recruiter").get("id"), filter.recruiterId()));
+        }
+
+        query.select(cb.construct(
+                        JobSummaryResponse.class,
+                        job.get("id"),
+                        job.get("title"),
+                        job.get("location"),
+                        job.get("department"),
+                        job.get("salaryRange"),
+                        job.get("jobType"),
+                        job.get("experienceLevel"),
+                        job.get("status"),
+                        recruiter.get("id"),
+                        recruiter.get("fullName"),
+                        job.get("createdAt"),
+                        job.get("closingDate")
+                ))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(job.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,33 @@
+package com.TalentForge.talentforge.job.repository;
+
+import java.time.LocalDateTime;
+
+public interface JobSearchRow {
+    Long getId();
+
+    String getTitle();
+
+    String getLocation();
+
+    String getDepartment();
+
+    String getSalaryRange();
+
+    String getJobType();
+
+    String getExperienceLevel();
+
+    String getStatus();
+
+    Long getRecruiterId();
+
+    String getRecruiterName();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getClosingDate();
+
+    Float getRank();
+
+    String getSnippet();
+}
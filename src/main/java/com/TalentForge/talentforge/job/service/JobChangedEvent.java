@@ -0,0 +1,10 @@
+package com.TalentForge.talentforge.job.service;
+
+import com.TalentForge.talentforge.job.dto.JobIndexDocument;
+
+public record JobChangedEvent(Long jobId, JobIndexDocument snapshot) {
+
+    public boolean deleted() {
+        return snapshot == null;
+    }
+}
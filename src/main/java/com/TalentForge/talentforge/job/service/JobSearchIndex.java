@@ -0,0 +1,423 @@
+package com.TalentForge.talentforge.job.service;
+
+import com.TalentForge.talentforge.common.text.TextTokenizer;
+import com.TalentForge.talentforge.job.dto.JobIndexDocument;
+import com.TalentForge.talentforge.job.dto.JobIndexHit;
+import com.TalentForge.talentforge.job.entity.JobStatus;
+import com.TalentForge.talentforge.job.repository.JobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/** In-process BM25 index over open jobs for search and type-ahead. */
+@Component
+@Slf4j
+public class JobSearchIndex {
+
+    private static final int TITLE_BOOST = 3;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int MAX_QUERY_TOKENS = 12;
+    private static final int MAX_REQUIREMENTS_CHARS = 4000;
+    private static final int BUILD_PAGE_SIZE = 500;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final JobRepository jobRepository;
+    private final boolean enabled;
+    private final Timer queryTimer;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final NavigableMap<String, Postings> dictionary = new TreeMap<>();
+    private final List<IndexedJob> docs = new ArrayList<>();
+    private final Map<Long, Integer> docByJobId = new HashMap<>();
+    private final Set<Long> removedWhileBuilding = new HashSet<>();
+    private long totalLength;
+    private int liveDocs;
+    private int deletedDocs;
+    private volatile boolean building;
+    private volatile boolean ready;
+
+    public JobSearchIndex(
+            JobRepository jobRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.job-search-index.enabled:true}") boolean enabled
+    ) {
+        this.jobRepository = jobRepository;
+        this.enabled = enabled;
+        this.queryTimer = meterRegistry.timer("talentforge.job_search_index.query");
+        meterRegistry.gauge("talentforge.job_search_index.documents", this, index -> index.documentCount());
+        meterRegistry.gauge("talentforge.job_search_index.terms", this, index -> index.termCount());
+    }
+
+    public boolean isAvailable() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        building = true;
+        try {
+            Long afterId = 0L;
+            while (true) {
+                List<JobIndexDocument> page = jobRepository.findIndexPage(JobStatus.OPEN, afterId, PageRequest.of(0, BUILD_PAGE_SIZE));
+                if (page.isEmpty()) {
+                    break;
+                }
+                lock.writeLock().lock();
+                try {
+                    for (JobIndexDocument document : page) {
+                        // Changes that committed while the build was running win over the older page.
+                        if (!docByJobId.containsKey(document.id()) && !removedWhileBuilding.contains(document.id())) {
+                            add(document);
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                afterId = page.get(page.size() - 1).id();
+            }
+            ready = true;
+            log.info("Job search index built with {} jobs and {} terms in {} ms",
+                    documentCount(), termCount(), (System.nanoTime() - started) / 1_000_000L);
+        } catch (Exception ex) {
+            log.warn("Job search index build failed; in-memory search stays unavailable", ex);
+        } finally {
+            building = false;
+            lock.writeLock().lock();
+            try {
+                removedWhileBuilding.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobChanged(JobChangedEvent event) {
+        if (!enabled || event.jobId() == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            remove(event.jobId());
+            if (!event.deleted() && event.snapshot().status() == JobStatus.OPEN) {
+                add(event.snapshot());
+            } else if (building) {
+                removedWhileBuilding.add(event.jobId());
+            }
+            if (deletedDocs > 1000 && deletedDocs > liveDocs / 4) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** BM25-ranked search; any query term may match. */
+    public List<JobIndexHit> search(String query, int limit) {
+        List<String> tokens = queryTokens(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        return queryTimer.record(() -> execute(tokens, null, false, limit));
+    }
+
+    /** Type-ahead: complete words must match and the last word matches as a prefix. */
+    public List<JobIndexHit> autocomplete(String input, int limit) {
+        if (input == null || input.isBlank()) {
+            return List.of();
+        }
+
+        List<String> tokens = new ArrayList<>(queryTokens(input));
+        String prefix = null;
+        char last = input.charAt(input.length() - 1);
+        if (!tokens.isEmpty() && Character.isLetterOrDigit(last)) {
+            prefix = tokens.remove(tokens.size() - 1);
+        }
+        if (tokens.isEmpty() && prefix == null) {
+            return List.of();
+        }
+
+        String finalPrefix = prefix;
+        return queryTimer.record(() -> execute(tokens, finalPrefix, true, limit));
+    }
+
+    private List<JobIndexHit> execute(List<String> terms, String prefix, boolean requireAll, int limit) {
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return List.of();
+            }
+
+            int docCount = docs.size();
+            float[] scores = new float[docCount];
+            byte[] matched = new byte[docCount];
+            IntList touched = new IntList();
+            float avgLength = Math.max(1f, (float) totalLength / liveDocs);
+            int required = 0;
+
+            for (String term : new LinkedHashSet<>(terms)) {
+                required++;
+                Postings postings = dictionary.get(term);
+                if (postings == null) {
+                    if (requireAll) {
+                        return List.of();
+                    }
+                    continue;
+                }
+                float idf = idf(postings.live);
+                for (int i = 0; i < postings.size; i++) {
+                    int doc = postings.docs[i];
+                    IndexedJob indexed = docs.get(doc);
+                    if (indexed == null || (requireAll && matched[doc] < required - 1)) {
+                        continue;
+                    }
+                    if (matched[doc]++ == 0) {
+                        touched.add(doc);
+                    }
+                    scores[doc] += bm25(idf, postings.freqs[i], indexed.length, avgLength);
+                }
+            }
+
+            if (prefix != null) {
+                required++;
+                float[] best = new float[docCount];
+                IntList prefixTouched = new IntList();
+                int expansions = 0;
+                for (Postings postings : dictionary.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+                    if (++expansions > MAX_PREFIX_EXPANSIONS) {
+                        break;
+                    }
+                    float idf = idf(postings.live);
+                    for (int i = 0; i < postings.size; i++) {
+                        int doc = postings.docs[i];
+                        IndexedJob indexed = docs.get(doc);
+                        if (indexed == null || (requireAll && matched[doc] < required - 1)) {
+                            continue;
+                        }
+                        if (best[doc] == 0f) {
+                            prefixTouched.add(doc);
+                        }
+                        best[doc] = Math.max(best[doc], bm25(idf, postings.freqs[i], indexed.length, avgLength));
+                    }
+                }
+                for (int i = 0; i < prefixTouched.size; i++) {
+                    int doc = prefixTouched.values[i];
+                    if (matched[doc]++ == 0) {
+                        touched.add(doc);
+                    }
+                    scores[doc] += best[doc];
+                }
+            }
+
+            int size = Math.max(1, Math.min(50, limit));
+            // Ties go to the newer job (higher internal doc id).
+            Comparator<Integer> ranking = (left, right) -> {
+                int byScore = Float.compare(scores[left], scores[right]);
+                return byScore != 0 ? byScore : Integer.compare(left, right);
+            };
+            PriorityQueue<Integer> top = new PriorityQueue<>(size + 1, ranking);
+            for (int i = 0; i < touched.size; i++) {
+                int doc = touched.values[i];
+                if (requireAll && matched[doc] < required) {
+                    continue;
+                }
+                if (top.size() == size && ranking.compare(doc, top.peek()) <= 0) {
+                    continue;
+                }
+                top.offer(doc);
+                if (top.size() > size) {
+                    top.poll();
+                }
+            }
+
+            JobIndexHit[] hits = new JobIndexHit[top.size()];
+            for (int i = hits.length - 1; i >= 0; i--) {
+                int doc = top.poll();
+                IndexedJob indexed = docs.get(doc);
+                hits[i] = new JobIndexHit(indexed.jobId, indexed.title, scores[doc]);
+            }
+            return Arrays.asList(hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(JobIndexDocument document) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        for (String token : TextTokenizer.tokenize(document.title())) {
+            frequencies.merge(token, TITLE_BOOST, Integer::sum);
+        }
+        for (String token : TextTokenizer.tokenize(document.department())) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        String requirements = document.requirements();
+        if (requirements != null && requirements.length() > MAX_REQUIREMENTS_CHARS) {
+            requirements = requirements.substring(0, MAX_REQUIREMENTS_CHARS);
+        }
+        for (String token : TextTokenizer.tokenize(requirements)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+
+        int length = 0;
+        for (int frequency : frequencies.values()) {
+            length += frequency;
+        }
+
+        int doc = docs.size();
+        String[] terms = frequencies.keySet().toArray(String[]::new);
+        docs.add(new IndexedJob(document.id(), document.title(), terms, length));
+        docByJobId.put(document.id(), doc);
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            dictionary.computeIfAbsent(entry.getKey(), ignored -> new Postings()).add(doc, entry.getValue());
+        }
+        totalLength += length;
+        liveDocs++;
+    }
+
+    private void remove(Long jobId) {
+        Integer doc = docByJobId.remove(jobId);
+        if (doc == null) {
+            return;
+        }
+
+        IndexedJob indexed = docs.get(doc);
+        docs.set(doc, null);
+        for (String term : indexed.terms) {
+            Postings postings = dictionary.get(term);
+            if (postings != null && --postings.live == 0) {
+                dictionary.remove(term);
+            }
+        }
+        totalLength -= indexed.length;
+        liveDocs--;
+        deletedDocs++;
+    }
+
+    private void compact() {
+        List<IndexedJob> live = docs.stream().filter(indexed -> indexed != null).toList();
+        Map<Long, Integer> oldDocs = new HashMap<>(docByJobId);
+        NavigableMap<String, Postings> oldDictionary = new TreeMap<>(dictionary);
+
+        int[] remap = new int[docs.size()];
+        Arrays.fill(remap, -1);
+        for (int newDoc = 0; newDoc < live.size(); newDoc++) {
+            remap[oldDocs.get(live.get(newDoc).jobId)] = newDoc;
+        }
+
+        dictionary.clear();
+        for (Map.Entry<String, Postings> entry : oldDictionary.entrySet()) {
+            Postings compacted = new Postings();
+            Postings postings = entry.getValue();
+            for (int i = 0; i < postings.size; i++) {
+                int newDoc = remap[postings.docs[i]];
+                if (newDoc >= 0) {
+                    compacted.add(newDoc, postings.freqs[i]);
+                }
+            }
+            if (compacted.size > 0) {
+                dictionary.put(entry.getKey(), compacted);
+            }
+        }
+
+        docs.clear();
+        docs.addAll(live);
+        docByJobId.clear();
+        for (int doc = 0; doc < live.size(); doc++) {
+            docByJobId.put(live.get(doc).jobId, doc);
+        }
+        deletedDocs = 0;
+    }
+
+    private float idf(int documentFrequency) {
+        return (float) Math.log(1 + (liveDocs - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private float bm25(float idf, int frequency, int length, float avgLength) {
+        return idf * (frequency * (K1 + 1)) / (frequency + K1 * (1 - B + B * length / avgLength));
+    }
+
+    private List<String> queryTokens(String query) {
+        List<String> tokens = TextTokenizer.tokenize(query);
+        return tokens.size() > MAX_QUERY_TOKENS ? new ArrayList<>(tokens.subList(0, MAX_QUERY_TOKENS)) : tokens;
+    }
+
+    private int documentCount() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int termCount() {
+        lock.readLock().lock();
+        try {
+            return dictionary.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record IndexedJob(long jobId, String title, String[] terms, int length) {
+    }
+
+    private static final class IntList {
+        private int[] values = new int[64];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+        private int live;
+
+        private void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = frequency;
+            size++;
+            live++;
+        }
+    }
+}
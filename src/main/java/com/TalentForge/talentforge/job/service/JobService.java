@@ -1,7 +1,12 @@
 package com.TalentForge.talentforge.job.service;
 
+import com.TalentForge.talentforge.job.dto.JobIndexHit;
+import com.TalentForge.talentforge.job.dto.JobListingFilter;
+import com.TalentForge.talentforge.job.dto.JobListingResponse;
 import com.TalentForge.talentforge.job.dto.JobRequest;
 import com.TalentForge.talentforge.job.dto.JobResponse;
+import com.TalentForge.talentforge.job.dto.JobSearchResponse;
+import com.TalentForge.talentforge.job.entity.JobStatus;
 
 import java.util.List;
 
@@ -16,5 +21,13 @@ public interface JobService {
 
     List<JobResponse> getByRecruiter(Long recruiterId);
 
+    JobListingResponse list(JobListingFilter filter, Long cursor, int limit);
+
+    JobSearchResponse search(String query, JobStatus status, String cursor, int limit);
+
+    List<JobIndexHit> quickSearch(String query, int limit);
+
+    List<JobIndexHit> autocomplete(String prefix, int limit);
+
     void delete(Long id);
 }
@@ -1,25 +1,39 @@
 package com.TalentForge.talentforge.job.service;
 
+import com.TalentForge.talentforge.ai.dto.AiScoreOptions;
 import com.TalentForge.talentforge.ai.service.AiAssistantService;
 import com.TalentForge.talentforge.common.exception.BadRequestException;
 import com.TalentForge.talentforge.common.exception.ResourceNotFoundException;
+import com.TalentForge.talentforge.job.dto.JobIndexDocument;
+import com.TalentForge.talentforge.job.dto.JobIndexHit;
+import com.TalentForge.talentforge.job.dto.JobListingFilter;
+import com.TalentForge.talentforge.job.dto.JobListingResponse;
 import com.TalentForge.talentforge.job.dto.JobRequest;
 import com.TalentForge.talentforge.job.dto.JobResponse;
+import com.TalentForge.talentforge.job.dto.JobSearchHit;
+import com.TalentForge.talentforge.job.dto.JobSearchResponse;
+import com.TalentForge.talentforge.job.dto.JobSummaryResponse;
+import com.TalentForge.talentforge.job.entity.ExperienceLevel;
 import com.TalentForge.talentforge.job.entity.Job;
 import com.TalentForge.talentforge.job.entity.JobStatus;
+import com.TalentForge.talentforge.job.entity.JobType;
 import com.TalentForge.talentforge.job.mapper.JobMapper;
 import com.TalentForge.talentforge.job.repository.JobRepository;
+import com.TalentForge.talentforge.job.repository.JobSearchRow;
+import com.TalentForge.talentforge.security.AuthenticatedUser;
+import com.TalentForge.talentforge.security.CurrentUserAccessor;
 import com.TalentForge.talentforge.subscription.service.SubscriptionLimitService;
 import com.TalentForge.talentforge.user.entity.User;
-import com.TalentForge.talentforge.user.entity.UserRole;
 import com.TalentForge.talentforge.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 
 @Service
@@ -27,15 +41,22 @@ import java.util.List;
 @Transactional
 public class JobServiceImpl implements JobService {
 
+    private static final int MAX_LISTING_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final JobMapper jobMapper;
     private final AiAssistantService aiAssistantService;
     private final SubscriptionLimitService subscriptionLimitService;
+    private final CurrentUserAccessor currentUserAccessor;
+    private final JobSearchIndex jobSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public JobResponse create(JobRequest request) {
-        User actor = getAuthenticatedUser();
+        AuthenticatedUser actor = currentUserAccessor.require();
         assertOwnershipOrAdmin(actor, request.recruiterId());
 
         User recruiter = userRepository.findById(request.recruiterId())
@@ -65,12 +86,14 @@ public class JobServiceImpl implements JobService {
                 job.getRequirements()
         ));
 
-        return jobMapper.toResponse(jobRepository.save(job));
+        Job saved = jobRepository.save(job);
+        publishJobChanged(saved);
+        return jobMapper.toResponse(saved);
     }
 
     @Override
     public JobResponse update(Long id, JobRequest request) {
-        User actor = getAuthenticatedUser();
+        AuthenticatedUser actor = currentUserAccessor.require();
         assertOwnershipOrAdmin(actor, request.recruiterId());
 
         Job job = jobRepository.findById(id)
@@ -96,7 +119,11 @@ public class JobServiceImpl implements JobService {
                 job.getRequirements()
         ));
 
-        return jobMapper.toResponse(jobRepository.save(job));
+        Job saved = jobRepository.save(job);
+        publishJobChanged(saved);
+        JobResponse response = jobMapper.toResponse(saved);
+        aiAssistantService.invalidateScoreCache(AiScoreOptions.jobCacheScope(job.getId()));
+        return response;
     }
 
     @Override
@@ -116,6 +143,76 @@ public class JobServiceImpl implements JobService {
         return jobRepository.findByRecruiterId(recruiterId).stream().map(jobMapper::toResponse).toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public JobListingResponse list(JobListingFilter filter, Long cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(MAX_LISTING_PAGE_SIZE, limit));
+        JobListingFilter normalized = new JobListingFilter(
+                filter.status(),
+                blankToNull(filter.location()),
+                filter.jobType(),
+                filter.experienceLevel(),
+                blankToNull(filter.department()),
+                filter.recruiterId()
+        );
+        List<JobSummaryResponse> rows = jobRepository.findListingPage(normalized, cursor == null ? Long.MAX_VALUE : cursor, pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<JobSummaryResponse> items = hasMore ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasMore ? items.get(items.size() - 1).id() : null;
+        return new JobListingResponse(List.copyOf(items), nextCursor, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public JobSearchResponse search(String query, JobStatus status, String cursor, int limit) {
+        String normalizedQuery = query == null ? "" : query.trim();
+        if (normalizedQuery.isEmpty()) {
+            throw new BadRequestException("Search query is required");
+        }
+        if (normalizedQuery.length() > MAX_SEARCH_QUERY_LENGTH) {
+            normalizedQuery = normalizedQuery.substring(0, MAX_SEARCH_QUERY_LENGTH);
+        }
+
+        int pageSize = Math.max(1, Math.min(MAX_SEARCH_PAGE_SIZE, limit));
+        float cursorRank = Float.MAX_VALUE;
+        long cursorId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeSearchCursor(cursor);
+            cursorRank = Float.parseFloat(parts[0]);
+            cursorId = Long.parseLong(parts[1]);
+        }
+
+        List<JobSearchRow> rows = jobRepository.searchPage(
+                normalizedQuery,
+                status == null ? "" : status.name(),
+                cursorRank,
+                cursorId,
+                pageSize + 1
+        );
+
+        boolean hasMore = rows.size() > pageSize;
+        List<JobSearchRow> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            JobSearchRow last = page.get(page.size() - 1);
+            nextCursor = encodeSearchCursor(last.getRank(), last.getId());
+        }
+        return new JobSearchResponse(normalizedQuery, page.stream().map(this::toSearchHit).toList(), nextCursor, hasMore);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<JobIndexHit> quickSearch(String query, int limit) {
+        return jobSearchIndex.isAvailable() ? jobSearchIndex.search(query, limit) : List.of();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<JobIndexHit> autocomplete(String prefix, int limit) {
+        return jobSearchIndex.isAvailable() ? jobSearchIndex.autocomplete(prefix, limit) : List.of();
+    }
+
     public List<JobResponse> getOpenJobs() {
         return jobRepository.findByStatus(JobStatus.OPEN).stream().map(jobMapper::toResponse).toList();
     }
@@ -125,27 +222,72 @@ public class JobServiceImpl implements JobService {
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found: " + id));
 
-        User actor = getAuthenticatedUser();
+        AuthenticatedUser actor = currentUserAccessor.require();
         assertOwnershipOrAdmin(actor, job.getRecruiter().getId());
 
         jobRepository.delete(job);
+        eventPublisher.publishEvent(new JobChangedEvent(id, null));
+        aiAssistantService.invalidateScoreCache(AiScoreOptions.jobCacheScope(id));
+    }
+
+    private void publishJobChanged(Job job) {
+        eventPublisher.publishEvent(new JobChangedEvent(job.getId(), new JobIndexDocument(
+                job.getId(),
+                job.getTitle(),
+                job.getRequirements(),
+                job.getDepartment(),
+                job.getStatus()
+        )));
+    }
+
+    private JobSearchHit toSearchHit(JobSearchRow row) {
+        return new JobSearchHit(
+                row.getId(),
+                row.getTitle(),
+                row.getLocation(),
+                row.getDepartment(),
+                row.getSalaryRange(),
+                row.getJobType() == null ? null : JobType.valueOf(row.getJobType()),
+                row.getExperienceLevel() == null ? null : ExperienceLevel.valueOf(row.getExperienceLevel()),
+                row.getStatus() == null ? null : JobStatus.valueOf(row.getStatus()),
+                row.getRecruiterId(),
+                row.getRecruiterName(),
+                row.getCreatedAt(),
+                row.getClosingDate(),
+                row.getRank() == null ? 0d : row.getRank(),
+                row.getSnippet()
+        );
     }
 
-    private User getAuthenticatedUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new AccessDeniedException("Authentication required");
+    private String encodeSearchCursor(Float rank, Long id) {
+        String raw = Float.toString(rank == null ? 0f : rank) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeSearchCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            Float.parseFloat(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid search cursor");
         }
+    }
 
-        return userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new AccessDeniedException("Authenticated user not found"));
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
     }
 
-    private void assertOwnershipOrAdmin(User actor, Long ownerId) {
-        if (actor.getRole() == UserRole.ADMIN) {
+    private void assertOwnershipOrAdmin(AuthenticatedUser actor, Long ownerId) {
+        if (actor.isAdmin()) {
             return;
         }
-        if (!actor.getId().equals(ownerId)) {
+        if (!actor.id().equals(ownerId)) {
             throw new AccessDeniedException("You can only manage jobs for your own account");
         }
     }
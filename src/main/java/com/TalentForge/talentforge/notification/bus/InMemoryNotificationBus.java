@@ -0,0 +1,25 @@
+package com.TalentForge.talentforge.notification.bus;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/** Single-node bus; publishing is a no-op. */
+@Component
+@ConditionalOnProperty(name = "app.notifications.bus.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryNotificationBus implements NotificationBus {
+
+    @Override
+    public String nodeId() {
+        return "local";
+    }
+
+    @Override
+    public void publish(NotificationBusMessage message) {
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationBusMessage> subscriber) {
+    }
+}
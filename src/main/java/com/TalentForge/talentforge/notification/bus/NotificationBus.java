@@ -0,0 +1,13 @@
+package com.TalentForge.talentforge.notification.bus;
+
+import java.util.function.Consumer;
+
+/** Broadcast channel between backend nodes; implementations never echo a node's own messages. */
+public interface NotificationBus {
+
+    String nodeId();
+
+    void publish(NotificationBusMessage message);
+
+    void subscribe(Consumer<NotificationBusMessage> subscriber);
+}
@@ -0,0 +1,42 @@
+package com.TalentForge.talentforge.notification.bus;
+
+import com.TalentForge.talentforge.notification.dto.NotificationPushMessage;
+
+import java.util.List;
+
+public record NotificationBusMessage(
+        Kind kind,
+        String origin,
+        Long userId,
+        Long notificationId,
+        NotificationPushMessage push,
+        List<Long> userIds,
+        boolean online
+) {
+
+    public enum Kind {
+        PUSH,
+        PRESENCE,
+        UNREAD_COUNT_INVALIDATED,
+        USER_STATUS_INVALIDATED
+    }
+
+    public static NotificationBusMessage push(String origin, Long userId, NotificationPushMessage push) {
+        Long notificationId = push.notification() == null ? null : push.notification().id();
+        return new NotificationBusMessage(Kind.PUSH, origin, userId, notificationId, push, null, false);
+    }
+
+    public static NotificationBusMessage presence(String origin, List<Long> userIds, boolean online) {
+        return new NotificationBusMessage(Kind.PRESENCE, origin, null, null, null, userIds, online);
+    }
+
+    public static NotificationBusMessage invalidated(Kind kind, String origin, List<Long> userIds) {
+        return new NotificationBusMessage(kind, origin, null, null, null, userIds, false);
+    }
+
+    /** Same push without the notification body, for transports with a payload limit. */
+    public NotificationBusMessage withoutBody() {
+        NotificationPushMessage reference = push == null ? null : new NotificationPushMessage(push.event(), null, push.unreadCount());
+        return new NotificationBusMessage(kind, origin, userId, notificationId, reference, userIds, online);
+    }
+}
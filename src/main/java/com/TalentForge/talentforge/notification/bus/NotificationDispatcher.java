@@ -0,0 +1,112 @@
+package com.TalentForge.talentforge.notification.bus;
+
+import com.TalentForge.talentforge.notification.dto.NotificationPushMessage;
+import com.TalentForge.talentforge.notification.dto.NotificationResponse;
+import com.TalentForge.talentforge.notification.repository.NotificationRepository;
+import com.TalentForge.talentforge.notification.service.NotificationsReadEvent;
+import com.TalentForge.talentforge.notification.websocket.NotificationWebSocketHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/** Routes pushes to local sessions, and over the bus only to nodes where the user is connected. */
+@Component
+@Slf4j
+public class NotificationDispatcher {
+
+    private final NotificationBus notificationBus;
+    private final NotificationPresence notificationPresence;
+    private final NotificationWebSocketHandler notificationWebSocketHandler;
+    private final NotificationRepository notificationRepository;
+    private final MeterRegistry meterRegistry;
+
+    public NotificationDispatcher(
+            NotificationBus notificationBus,
+            NotificationPresence notificationPresence,
+            NotificationWebSocketHandler notificationWebSocketHandler,
+            NotificationRepository notificationRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.notificationBus = notificationBus;
+        this.notificationPresence = notificationPresence;
+        this.notificationWebSocketHandler = notificationWebSocketHandler;
+        this.notificationRepository = notificationRepository;
+        this.meterRegistry = meterRegistry;
+        notificationBus.subscribe(this::onMessage);
+    }
+
+    public boolean isOnline(Long userId) {
+        return notificationPresence.isOnline(userId);
+    }
+
+    public void dispatch(Long userId, NotificationResponse notification, long unreadCount) {
+        route(userId, NotificationPushMessage.created(notification, unreadCount));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationsRead(NotificationsReadEvent event) {
+        if (event.userId() != null && notificationPresence.isOnline(event.userId())) {
+            route(event.userId(), NotificationPushMessage.unreadCountChanged(event.unreadCount()));
+        }
+    }
+
+    private void route(Long userId, NotificationPushMessage push) {
+        boolean routed = false;
+        if (notificationPresence.isOnlineLocally(userId)) {
+            record("local", notificationWebSocketHandler.deliver(userId, push) > 0 ? "delivered" : "no_session");
+            routed = true;
+        }
+        if (notificationPresence.isOnlineRemotely(userId)) {
+            notificationBus.publish(NotificationBusMessage.push(notificationBus.nodeId(), userId, push));
+            record("remote", "forwarded");
+            routed = true;
+        }
+        if (!routed) {
+            record("none", "offline");
+        }
+    }
+
+    private void onMessage(NotificationBusMessage message) {
+        if (message.kind() != NotificationBusMessage.Kind.PUSH || message.push() == null || message.userId() == null) {
+            return;
+        }
+        if (!notificationPresence.isOnlineLocally(message.userId())) {
+            record("bus", "no_session");
+            return;
+        }
+
+        NotificationPushMessage push = message.push();
+        if (push.notification() == null && !push.countOnly()) {
+            NotificationResponse reloaded = message.notificationId() == null ? null : notificationRepository.findById(message.notificationId())
+                    .map(notification -> new NotificationResponse(
+                            notification.getId(),
+                            notification.getType(),
+                            notification.getTitle(),
+                            notification.getMessage(),
+                            notification.getLink(),
+                            notification.isRead(),
+                            notification.getCreatedAt(),
+                            notification.getReadAt()
+                    ))
+                    .orElse(null);
+            if (reloaded == null) {
+                record("bus", "missing");
+                return;
+            }
+            push = NotificationPushMessage.created(reloaded, push.unreadCount());
+        }
+
+        try {
+            record("bus", notificationWebSocketHandler.deliver(message.userId(), push) > 0 ? "delivered" : "no_session");
+        } catch (Exception ex) {
+            record("bus", "failed");
+            log.debug("Failed to deliver bus notification userId={}", message.userId(), ex);
+        }
+    }
+
+    private void record(String route, String result) {
+        meterRegistry.counter("talentforge.notifications.delivery", "route", route, "result", result).increment();
+    }
+}
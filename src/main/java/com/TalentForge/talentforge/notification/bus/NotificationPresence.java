@@ -0,0 +1,131 @@
+package com.TalentForge.talentforge.notification.bus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/** Tracks which users hold WebSocket sessions on this node and across the cluster. */
+@Component
+@Slf4j
+public class NotificationPresence {
+
+    private static final int SNAPSHOT_CHUNK_SIZE = 500;
+
+    private final NotificationBus notificationBus;
+    private final long ttlMs;
+    private final Map<Long, Integer> localSessions = new ConcurrentHashMap<>();
+    private final Map<String, Map<Long, Long>> remoteUsersByNode = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService heartbeatScheduler;
+
+    public NotificationPresence(
+            NotificationBus notificationBus,
+            MeterRegistry meterRegistry,
+            @Value("${app.notifications.bus.heartbeat-ms:15000}") long heartbeatMs
+    ) {
+        this.notificationBus = notificationBus;
+        long intervalMs = Math.max(1000L, heartbeatMs);
+        this.ttlMs = intervalMs * 3;
+        notificationBus.subscribe(this::onMessage);
+        meterRegistry.gauge("talentforge.notifications.presence.local_users", localSessions, Map::size);
+        meterRegistry.gauge("talentforge.notifications.presence.remote_users", this, presence -> presence.remoteUserCount());
+        meterRegistry.gauge("talentforge.notifications.presence.remote_nodes", remoteUsersByNode, Map::size);
+
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("notification-presence");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeatScheduler.scheduleWithFixedDelay(this::heartbeat, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void sessionOpened(Long userId) {
+        if (localSessions.merge(userId, 1, Integer::sum) == 1) {
+            notificationBus.publish(NotificationBusMessage.presence(notificationBus.nodeId(), List.of(userId), true));
+        }
+    }
+
+    public void sessionClosed(Long userId) {
+        Integer remaining = localSessions.computeIfPresent(userId, (ignored, count) -> count <= 1 ? null : count - 1);
+        if (remaining == null) {
+            notificationBus.publish(NotificationBusMessage.presence(notificationBus.nodeId(), List.of(userId), false));
+        }
+    }
+
+    public boolean isOnlineLocally(Long userId) {
+        return userId != null && localSessions.containsKey(userId);
+    }
+
+    public boolean isOnlineRemotely(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        long cutoff = System.currentTimeMillis() - ttlMs;
+        for (Map<Long, Long> users : remoteUsersByNode.values()) {
+            Long seenAt = users.get(userId);
+            if (seenAt != null && seenAt >= cutoff) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isOnline(Long userId) {
+        return isOnlineLocally(userId) || isOnlineRemotely(userId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+    }
+
+    void heartbeat() {
+        try {
+            announce();
+        } catch (Exception ex) {
+            log.warn("Notification presence heartbeat failed", ex);
+        }
+    }
+
+    private void announce() {
+        List<Long> users = new ArrayList<>(localSessions.keySet());
+        for (int start = 0; start < users.size(); start += SNAPSHOT_CHUNK_SIZE) {
+            List<Long> chunk = List.copyOf(users.subList(start, Math.min(users.size(), start + SNAPSHOT_CHUNK_SIZE)));
+            notificationBus.publish(NotificationBusMessage.presence(notificationBus.nodeId(), chunk, true));
+        }
+
+        long cutoff = System.currentTimeMillis() - ttlMs;
+        remoteUsersByNode.values().forEach(nodeUsers -> nodeUsers.values().removeIf(seenAt -> seenAt < cutoff));
+        remoteUsersByNode.values().removeIf(Map::isEmpty);
+    }
+
+    private void onMessage(NotificationBusMessage message) {
+        if (message.kind() != NotificationBusMessage.Kind.PRESENCE || message.userIds() == null || message.origin() == null) {
+            return;
+        }
+
+        Map<Long, Long> nodeUsers = remoteUsersByNode.computeIfAbsent(message.origin(), ignored -> new ConcurrentHashMap<>());
+        long now = System.currentTimeMillis();
+        for (Long userId : message.userIds()) {
+            if (message.online()) {
+                nodeUsers.put(userId, now);
+            } else {
+                nodeUsers.remove(userId);
+            }
+        }
+    }
+
+    private int remoteUserCount() {
+        return remoteUsersByNode.values().stream().mapToInt(Map::size).sum();
+    }
+}
@@ -0,0 +1,161 @@
+package com.TalentForge.talentforge.notification.bus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/** Cluster bus over Postgres LISTEN/NOTIFY. */
+@Component
+@ConditionalOnProperty(name = "app.notifications.bus.type", havingValue = "postgres")
+@Slf4j
+public class PostgresNotificationBus implements NotificationBus {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String channel;
+    private final long reconnectBackoffMs;
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final List<Consumer<NotificationBusMessage>> subscribers = new CopyOnWriteArrayList<>();
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .build();
+    private final Thread listener;
+    private volatile boolean running = true;
+
+    public PostgresNotificationBus(
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.notifications.bus.channel:talentforge_notifications}") String channel,
+            @Value("${app.notifications.bus.reconnect-backoff-ms:5000}") long reconnectBackoffMs
+    ) {
+        String normalizedChannel = channel == null ? "" : channel.trim().toLowerCase(Locale.ROOT);
+        if (!CHANNEL_NAME.matcher(normalizedChannel).matches()) {
+            throw new IllegalStateException("Invalid notification bus channel name: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.channel = normalizedChannel;
+        this.reconnectBackoffMs = Math.max(500L, reconnectBackoffMs);
+
+        this.listener = new Thread(this::listen);
+        listener.setName("notification-bus-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(NotificationBusMessage message) {
+        try {
+            String payload = objectMapper.writeValueAsString(message);
+            if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+                payload = objectMapper.writeValueAsString(message.withoutBody());
+                meterRegistry.counter("talentforge.notifications.bus.truncated").increment();
+            }
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+            meterRegistry.counter("talentforge.notifications.bus.messages", "direction", "out", "kind", message.kind().name()).increment();
+        } catch (Exception ex) {
+            meterRegistry.counter("talentforge.notifications.bus.failures", "direction", "out").increment();
+            log.warn("Failed to publish notification bus message kind={}", message.kind(), ex);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationBusMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        listener.interrupt();
+        listener.join(5000);
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Notification bus listening on channel={} nodeId={}", channel, nodeId);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(1000);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (Exception ex) {
+                if (!running) {
+                    return;
+                }
+                meterRegistry.counter("talentforge.notifications.bus.failures", "direction", "in").increment();
+                log.warn("Notification bus listener disconnected, retrying in {} ms", reconnectBackoffMs, ex);
+                try {
+                    Thread.sleep(reconnectBackoffMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        NotificationBusMessage message;
+        try {
+            message = objectMapper.readValue(payload, NotificationBusMessage.class);
+        } catch (Exception ex) {
+            meterRegistry.counter("talentforge.notifications.bus.failures", "direction", "in").increment();
+            log.debug("Ignoring unreadable notification bus payload", ex);
+            return;
+        }
+        if (nodeId.equals(message.origin()) || message.kind() == null) {
+            return;
+        }
+
+        meterRegistry.counter("talentforge.notifications.bus.messages", "direction", "in", "kind", message.kind().name()).increment();
+        for (Consumer<NotificationBusMessage> subscriber : subscribers) {
+            try {
+                subscriber.accept(message);
+            } catch (Exception ex) {
+                log.warn("Notification bus subscriber failed kind={}", message.kind(), ex);
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.TalentForge.talentforge.notification.controller;
 import com.TalentForge.talentforge.common.payload.ApiResponse;
 import com.TalentForge.talentforge.notification.dto.NotificationListResponse;
 import com.TalentForge.talentforge.notification.dto.NotificationMarkAllReadResponse;
+import com.TalentForge.talentforge.notification.dto.NotificationPageResponse;
 import com.TalentForge.talentforge.notification.dto.NotificationUnreadCountResponse;
 import com.TalentForge.talentforge.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +35,22 @@ public class NotificationController {
                 .build());
     }
 
+    @GetMapping("/inbox")
+    public ResponseEntity<ApiResponse<NotificationPageResponse>> getInbox(
+            Authentication authentication,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        NotificationPageResponse response = notificationService.getInbox(authentication.getName(), search, unreadOnly, cursor, limit);
+        return ResponseEntity.ok(ApiResponse.<NotificationPageResponse>builder()
+                .success(true)
+                .message("Notifications fetched")
+                .data(response)
+                .build());
+    }
+
     @GetMapping("/unread-count")
     public ResponseEntity<ApiResponse<NotificationUnreadCountResponse>> getUnreadCount(Authentication authentication) {
         long unreadCount = notificationService.getUnreadCount(authentication.getName());
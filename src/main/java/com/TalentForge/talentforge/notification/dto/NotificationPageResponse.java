@@ -0,0 +1,11 @@
+package com.TalentForge.talentforge.notification.dto;
+
+import java.util.List;
+
+public record NotificationPageResponse(
+        List<NotificationResponse> items,
+        String nextCursor,
+        boolean hasMore,
+        long unreadCount
+) {
+}
@@ -5,4 +5,19 @@ public record NotificationPushMessage(
         NotificationResponse notification,
         long unreadCount
 ) {
+
+    public static final String EVENT_NOTIFICATION_CREATED = "NOTIFICATION_CREATED";
+    public static final String EVENT_UNREAD_COUNT_CHANGED = "UNREAD_COUNT_CHANGED";
+
+    public static NotificationPushMessage created(NotificationResponse notification, long unreadCount) {
+        return new NotificationPushMessage(EVENT_NOTIFICATION_CREATED, notification, unreadCount);
+    }
+
+    public static NotificationPushMessage unreadCountChanged(long unreadCount) {
+        return new NotificationPushMessage(EVENT_UNREAD_COUNT_CHANGED, null, unreadCount);
+    }
+
+    public boolean countOnly() {
+        return EVENT_UNREAD_COUNT_CHANGED.equals(event);
+    }
 }
@@ -0,0 +1,44 @@
+package com.TalentForge.talentforge.notification.repository;
+
+import com.TalentForge.talentforge.notification.entity.NotificationCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface NotificationCounterRepository extends JpaRepository<NotificationCounter, Long> {
+
+    @Query("SELECT c.unreadCount FROM NotificationCounter c WHERE c.userId = :userId")
+    Optional<Long> findUnreadCount(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("""
+            UPDATE NotificationCounter c
+            SET c.unreadCount = CASE WHEN c.unreadCount > :amount THEN c.unreadCount - :amount ELSE 0 END,
+                c.updatedAt = :updatedAt
+            WHERE c.userId = :userId
+            """)
+    int decrementUnread(@Param("userId") Long userId, @Param("amount") long amount, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query(value = """
+            UPDATE notification_counters c
+            SET unread_count = (
+                SELECT COUNT(*)
+                FROM notifications n
+                WHERE n.user_id = c.user_id
+                  AND n.is_read = FALSE
+            )
+            WHERE c.updated_at >= :since
+              AND c.unread_count <> (
+                SELECT COUNT(*)
+                FROM notifications n
+                WHERE n.user_id = c.user_id
+                  AND n.is_read = FALSE
+              )
+            """, nativeQuery = true)
+    int reconcileUpdatedSince(@Param("since") LocalDateTime since);
+}
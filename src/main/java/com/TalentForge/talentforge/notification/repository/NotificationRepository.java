@@ -1,30 +1,59 @@
 package com.TalentForge.talentforge.notification.repository;
 
+import com.TalentForge.talentforge.notification.dto.NotificationResponse;
 import com.TalentForge.talentforge.notification.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
+    // Keyset is (createdAt DESC, id DESC) over idx_notifications_user_created_at_id (V22); the
+    // sentinel cursor (far future, max id) starts from the newest notification.
     @Query("""
-            SELECT n
+            SELECT new com.TalentForge.talentforge.notification.dto.NotificationResponse(
+                n.id, n.type, n.title, n.message, n.link, n.read, n.createdAt, n.readAt
+            )
             FROM Notification n
             WHERE n.user.id = :userId
-              AND (
-                  :search IS NULL OR :search = ''
-                  OR LOWER(n.title) LIKE LOWER(CONCAT('%', :search, '%'))
-                  OR LOWER(n.message) LIKE LOWER(CONCAT('%', :search, '%'))
-              )
-            ORDER BY n.createdAt DESC
+              AND (:unreadOnly = false OR n.read = false)
+              AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId))
+            ORDER BY n.createdAt DESC, n.id DESC
             """)
-    List<Notification> findForUser(@Param("userId") Long userId, @Param("search") String search);
+    List<NotificationResponse> findPage(
+            @Param("userId") Long userId,
+            @Param("unreadOnly") boolean unreadOnly,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 
-    long countByUserIdAndReadFalse(Long userId);
+    // Same keyset as findPage, filtered through the generated search_vector column (V22). The
+    // query is a prefix tsquery built by the service so partially typed words still match.
+    @Query(value = """
+            SELECT n.*
+            FROM notifications n
+            WHERE n.user_id = :userId
+              AND n.search_vector @@ to_tsquery('simple', :query)
+              AND (:unreadOnly = FALSE OR n.is_read = FALSE)
+              AND (n.created_at < :cursorCreatedAt OR (n.created_at = :cursorCreatedAt AND n.id < :cursorId))
+            ORDER BY n.created_at DESC, n.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Notification> searchPage(
+            @Param("userId") Long userId,
+            @Param("query") String query,
+            @Param("unreadOnly") boolean unreadOnly,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
 
     @Modifying
     @Query("""
@@ -34,4 +63,28 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
               AND n.read = false
             """)
     int markAllReadForUser(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+
+    @Query(value = """
+            SELECT n.id
+            FROM notifications n
+            WHERE n.is_read = TRUE
+              AND n.created_at < :cutoff
+            ORDER BY n.created_at, n.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> lockReadIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO notifications_archive (id, user_id, type, title, message, link, read_at, created_at, archived_at)
+            SELECT n.id, n.user_id, n.type, n.title, n.message, n.link, n.read_at, n.created_at, :archivedAt
+            FROM notifications n
+            WHERE n.id IN (:ids)
+            """, nativeQuery = true)
+    int archiveByIds(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
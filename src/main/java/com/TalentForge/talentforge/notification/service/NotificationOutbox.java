@@ -0,0 +1,378 @@
+package com.TalentForge.talentforge.notification.service;
+
+import com.TalentForge.talentforge.notification.bus.NotificationDispatcher;
+import com.TalentForge.talentforge.notification.dto.NotificationResponse;
+import com.TalentForge.talentforge.notification.entity.NotificationType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/** Transactional notification outbox, drained into notifications in batches by a background thread. */
+@Component
+@Slf4j
+public class NotificationOutbox {
+
+    private static final String APPEND_SQL = """
+            INSERT INTO notification_outbox (user_id, type, title, message, link, created_at, attempts, next_attempt_at)
+            VALUES (?, ?, ?, ?, ?, ?, 0, ?)
+            """;
+    private static final String CLAIM_SQL = """
+            SELECT id, user_id, type, title, message, link, created_at, attempts
+            FROM notification_outbox
+            WHERE next_attempt_at <= ?
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications (user_id, type, title, message, link, is_read, created_at)
+            VALUES (?, ?, ?, ?, ?, FALSE, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationUnreadCounter unreadCounter;
+    private final NotificationDispatcher notificationDispatcher;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final long lingerMs;
+    private final long pollIntervalMs;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final long retryBackoffMaxMs;
+    private final Semaphore wakeups = new Semaphore(0);
+    private final ExecutorService drainer;
+    private final Timer flushTimer;
+    private volatile boolean running = true;
+
+    public NotificationOutbox(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            NotificationUnreadCounter unreadCounter,
+            NotificationDispatcher notificationDispatcher,
+            MeterRegistry meterRegistry,
+            @Value("${app.notifications.outbox.batch-size:200}") int batchSize,
+            @Value("${app.notifications.outbox.linger-ms:20}") long lingerMs,
+            @Value("${app.notifications.outbox.poll-interval-ms:1000}") long pollIntervalMs,
+            @Value("${app.notifications.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${app.notifications.outbox.retry-backoff-ms:1000}") long retryBackoffMs,
+            @Value("${app.notifications.outbox.retry-backoff-max-ms:300000}") long retryBackoffMaxMs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.unreadCounter = unreadCounter;
+        this.notificationDispatcher = notificationDispatcher;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = Math.max(1, Math.min(1000, batchSize));
+        this.lingerMs = Math.max(0L, lingerMs);
+        this.pollIntervalMs = Math.max(10L, pollIntervalMs);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = Math.max(100L, retryBackoffMs);
+        this.retryBackoffMaxMs = Math.max(this.retryBackoffMs, retryBackoffMaxMs);
+        this.flushTimer = meterRegistry.timer("talentforge.notifications.outbox.flush");
+
+        this.drainer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("notification-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        drainer.execute(this::drainLoop);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onNotificationRequested(NotificationRequestedEvent event) {
+        Timestamp createdAt = Timestamp.valueOf(event.createdAt());
+        jdbcTemplate.update(
+                APPEND_SQL,
+                event.userId(),
+                event.type().name(),
+                event.title(),
+                event.message(),
+                event.link(),
+                createdAt,
+                createdAt
+        );
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationCommitted(NotificationRequestedEvent event) {
+        wakeups.release();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        wakeups.release();
+        drainer.shutdown();
+        if (!drainer.awaitTermination(10, TimeUnit.SECONDS)) {
+            drainer.shutdownNow();
+        }
+    }
+
+    private void drainLoop() {
+        int failures = 0;
+        while (running) {
+            try {
+                if (wakeups.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS) && lingerMs > 0) {
+                    Thread.sleep(lingerMs);
+                }
+                wakeups.drainPermits();
+
+                int claimed;
+                do {
+                    claimed = flush();
+                } while (claimed == batchSize && running);
+                if (claimed < 0) {
+                    Thread.sleep(backoffMs(++failures));
+                } else {
+                    failures = 0;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                log.warn("Notification outbox drain failed", ex);
+            }
+        }
+    }
+
+    /** Moves one batch into notifications; returns the number of rows claimed, or -1 on failure. */
+    int flush() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        try {
+            write(batch, this::claim);
+        } catch (Exception ex) {
+            if (batch.isEmpty()) {
+                log.warn("Notification outbox claim failed", ex);
+            } else {
+                log.debug("Notification outbox batch of {} failed, retrying in halves", batch.size(), ex);
+                retryInHalves(List.copyOf(batch), ex);
+            }
+            return -1;
+        }
+        return batch.size();
+    }
+
+    private void write(List<Pending> batch, Supplier<List<Pending>> claimer) {
+        List<Saved> saved = new ArrayList<>(batchSize);
+        flushTimer.record(() -> unreadCounter.recordInserted(() -> transactionTemplate.execute(status -> {
+            batch.addAll(claimer.get());
+            return batch.isEmpty() ? Map.<Long, Integer>of() : insert(batch, saved);
+        })));
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        meterRegistry.summary("talentforge.notifications.outbox.batch_size").record(batch.size());
+        meterRegistry.counter("talentforge.notifications.outbox.written").increment(saved.size());
+        push(saved);
+    }
+
+    // Bisects a failed batch so that only the rows that keep failing are charged an attempt.
+    private void retryInHalves(List<Pending> failed, Exception cause) {
+        if (failed.size() == 1) {
+            recordFailure(failed.get(0), cause);
+            return;
+        }
+
+        int middle = failed.size() / 2;
+        for (List<Pending> half : List.of(failed.subList(0, middle), failed.subList(middle, failed.size()))) {
+            List<Pending> batch = new ArrayList<>(half.size());
+            try {
+                write(batch, () -> claim(half));
+            } catch (Exception ex) {
+                if (!batch.isEmpty()) {
+                    retryInHalves(List.copyOf(batch), ex);
+                }
+            }
+        }
+    }
+
+    private List<Pending> claim() {
+        return jdbcTemplate.query(CLAIM_SQL, this::mapPending, Timestamp.valueOf(LocalDateTime.now()), batchSize);
+    }
+
+    private List<Pending> claim(List<Pending> rows) {
+        String placeholders = String.join(",", Collections.nCopies(rows.size(), "?"));
+        return jdbcTemplate.query(
+                "SELECT id, user_id, type, title, message, link, created_at, attempts FROM notification_outbox"
+                        + " WHERE id IN (" + placeholders + ") ORDER BY id FOR UPDATE SKIP LOCKED",
+                this::mapPending,
+                rows.stream().map(Pending::id).toArray()
+        );
+    }
+
+    private Pending mapPending(ResultSet rs, int rowNum) throws SQLException {
+        return new Pending(
+                rs.getLong("id"),
+                rs.getLong("user_id"),
+                rs.getString("type"),
+                rs.getString("title"),
+                rs.getString("message"),
+                rs.getString("link"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getInt("attempts")
+        );
+    }
+
+    private Map<Long, Integer> insert(List<Pending> batch, List<Saved> saved) {
+        Set<Long> knownUsers = knownUsers(batch);
+        List<Pending> rows = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            if (knownUsers.contains(pending.userId())) {
+                rows.add(pending);
+            }
+        }
+        if (rows.size() < batch.size()) {
+            meterRegistry.counter("talentforge.notifications.outbox.dropped", "reason", "unknown_user").increment(batch.size() - rows.size());
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM notification_outbox WHERE id = ?", batch.stream()
+                .map(pending -> new Object[]{pending.id()})
+                .toList());
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int index) throws SQLException {
+                Pending pending = rows.get(index);
+                statement.setLong(1, pending.userId());
+                statement.setString(2, pending.type());
+                statement.setString(3, pending.title());
+                statement.setString(4, pending.message());
+                statement.setString(5, pending.link());
+                statement.setTimestamp(6, Timestamp.valueOf(pending.createdAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        }, keys);
+
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        Map<Long, Integer> insertedByUser = new LinkedHashMap<>();
+        for (int index = 0; index < rows.size(); index++) {
+            Pending pending = rows.get(index);
+            Long id = index < keyList.size() ? ((Number) keyList.get(index).values().iterator().next()).longValue() : null;
+            saved.add(new Saved(pending.userId(), new NotificationResponse(
+                    id,
+                    NotificationType.valueOf(pending.type()),
+                    pending.title(),
+                    pending.message(),
+                    pending.link(),
+                    false,
+                    pending.createdAt(),
+                    null
+            )));
+            insertedByUser.merge(pending.userId(), 1, Integer::sum);
+        }
+        unreadCounter.incrementStored(insertedByUser);
+        return insertedByUser;
+    }
+
+    private Set<Long> knownUsers(List<Pending> batch) {
+        Set<Long> userIds = new HashSet<>();
+        batch.forEach(pending -> userIds.add(pending.userId()));
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE id IN (" + placeholders + ")",
+                Long.class,
+                userIds.toArray()
+        ));
+    }
+
+    private void push(List<Saved> saved) {
+        Map<Long, Long> unreadByUser = new LinkedHashMap<>();
+        for (Saved notification : saved) {
+            if (!notificationDispatcher.isOnline(notification.userId())) {
+                continue;
+            }
+            try {
+                long unreadCount = unreadByUser.computeIfAbsent(notification.userId(), unreadCounter::get);
+                notificationDispatcher.dispatch(notification.userId(), notification.response(), unreadCount);
+            } catch (Exception ex) {
+                log.debug("Notification push failed userId={} notificationId={}", notification.userId(), notification.response().id(), ex);
+            }
+        }
+    }
+
+    private void recordFailure(Pending pending, Exception cause) {
+        int attempts = pending.attempts() + 1;
+        try {
+            // Conditional on the attempts read, so a concurrent drainer that hit the same row does not count it twice.
+            if (attempts >= maxAttempts) {
+                if (jdbcTemplate.update("DELETE FROM notification_outbox WHERE id = ? AND attempts = ?", pending.id(), pending.attempts()) > 0) {
+                    meterRegistry.counter("talentforge.notifications.outbox.dropped", "reason", "failed").increment();
+                    log.warn("Dropped notification outbox entry id={} userId={} after {} attempts", pending.id(), pending.userId(), attempts, cause);
+                }
+                return;
+            }
+            int updated = jdbcTemplate.update(
+                    "UPDATE notification_outbox SET attempts = ?, next_attempt_at = ? WHERE id = ? AND attempts = ?",
+                    attempts,
+                    Timestamp.valueOf(LocalDateTime.now().plus(Duration.ofMillis(backoffMs(attempts)))),
+                    pending.id(),
+                    pending.attempts()
+            );
+            if (updated > 0) {
+                log.warn("Notification outbox entry id={} failed, attempt {} of {}", pending.id(), attempts, maxAttempts, cause);
+            }
+        } catch (Exception ex) {
+            log.warn("Notification outbox entry id={} failed and its attempt could not be recorded", pending.id(), cause);
+        }
+    }
+
+    private long backoffMs(int attempt) {
+        return Math.min(retryBackoffMaxMs, retryBackoffMs << Math.min(20, Math.max(0, attempt - 1)));
+    }
+
+    private record Pending(
+            Long id,
+            Long userId,
+            String type,
+            String title,
+            String message,
+            String link,
+            LocalDateTime createdAt,
+            int attempts
+    ) {
+    }
+
+    private record Saved(Long userId, NotificationResponse response) {
+    }
+}
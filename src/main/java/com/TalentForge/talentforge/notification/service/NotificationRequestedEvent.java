@@ -0,0 +1,15 @@
+package com.TalentForge.talentforge.notification.service;
+
+import com.TalentForge.talentforge.notification.entity.NotificationType;
+
+import java.time.LocalDateTime;
+
+public record NotificationRequestedEvent(
+        Long userId,
+        NotificationType type,
+        String title,
+        String message,
+        String link,
+        LocalDateTime createdAt
+) {
+}
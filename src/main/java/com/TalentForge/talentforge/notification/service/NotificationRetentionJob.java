@@ -0,0 +1,88 @@
+package com.TalentForge.talentforge.notification.service;
+
+import com.TalentForge.talentforge.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** Archives or deletes read notifications past the retention window in batches. */
+@Component
+@Slf4j
+public class NotificationRetentionJob {
+
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final boolean archive;
+    private final int retentionDays;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public NotificationRetentionJob(
+            NotificationRepository notificationRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.notifications.retention.enabled:true}") boolean enabled,
+            @Value("${app.notifications.retention.archive:true}") boolean archive,
+            @Value("${app.notifications.retention.read-days:90}") int retentionDays,
+            @Value("${app.notifications.retention.batch-size:1000}") int batchSize,
+            @Value("${app.notifications.retention.max-batches:50}") int maxBatches
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.archive = archive;
+        this.retentionDays = Math.max(1, retentionDays);
+        this.batchSize = Math.max(1, Math.min(10_000, batchSize));
+        this.maxBatches = Math.max(1, maxBatches);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.notifications.retention.interval-ms:3600000}",
+            initialDelayString = "${app.notifications.retention.initial-delay-ms:600000}"
+    )
+    public void purgeReadNotifications() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int removed = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                Integer moved = transactionTemplate.execute(status -> moveBatch(cutoff));
+                if (moved == null || moved == 0) {
+                    break;
+                }
+                removed += moved;
+            }
+        } catch (Exception ex) {
+            log.warn("Notification retention run failed after removing {} notifications", removed, ex);
+        }
+
+        if (removed > 0) {
+            meterRegistry.counter("talentforge.notifications.retention.removed", "mode", archive ? "archived" : "deleted").increment(removed);
+            log.info("Notification retention {} {} read notifications created before {}", archive ? "archived" : "deleted", removed, cutoff);
+        }
+    }
+
+    private int moveBatch(LocalDateTime cutoff) {
+        List<Long> ids = notificationRepository.lockReadIdsCreatedBefore(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        if (archive) {
+            notificationRepository.archiveByIds(ids, LocalDateTime.now());
+        }
+        return notificationRepository.deleteByIds(ids);
+    }
+}
@@ -2,12 +2,15 @@ package com.TalentForge.talentforge.notification.service;
 
 import com.TalentForge.talentforge.notification.dto.NotificationListResponse;
 import com.TalentForge.talentforge.notification.dto.NotificationMarkAllReadResponse;
+import com.TalentForge.talentforge.notification.dto.NotificationPageResponse;
 import com.TalentForge.talentforge.notification.entity.NotificationType;
 
 public interface NotificationService {
 
     NotificationListResponse getMyNotifications(String email, String search);
 
+    NotificationPageResponse getInbox(String email, String search, boolean unreadOnly, String cursor, int limit);
+
     long getUnreadCount(String email);
 
     NotificationMarkAllReadResponse markAllRead(String email);
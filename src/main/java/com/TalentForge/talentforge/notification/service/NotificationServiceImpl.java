@@ -1,30 +1,48 @@
 package com.TalentForge.talentforge.notification.service;
 
+import com.TalentForge.talentforge.common.exception.BadRequestException;
 import com.TalentForge.talentforge.common.exception.ResourceNotFoundException;
 import com.TalentForge.talentforge.notification.dto.NotificationListResponse;
 import com.TalentForge.talentforge.notification.dto.NotificationMarkAllReadResponse;
+import com.TalentForge.talentforge.notification.dto.NotificationPageResponse;
 import com.TalentForge.talentforge.notification.dto.NotificationResponse;
 import com.TalentForge.talentforge.notification.entity.Notification;
 import com.TalentForge.talentforge.notification.entity.NotificationType;
+import com.TalentForge.talentforge.notification.repository.NotificationCounterRepository;
 import com.TalentForge.talentforge.notification.repository.NotificationRepository;
-import com.TalentForge.talentforge.notification.websocket.NotificationWebSocketHandler;
 import com.TalentForge.talentforge.user.entity.User;
 import com.TalentForge.talentforge.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class NotificationServiceImpl implements NotificationService {
 
+    private static final int MAX_INBOX_PAGE_SIZE = 100;
+    private static final int MAX_LEGACY_LIST_SIZE = 200;
+    private static final int MAX_SEARCH_TERMS = 8;
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final Pattern SEARCH_TOKEN_SPLIT = Pattern.compile("[^\\p{L}\\p{N}]+");
+
     private final NotificationRepository notificationRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
     private final UserRepository userRepository;
-    private final NotificationWebSocketHandler notificationWebSocketHandler;
+    private final NotificationUnreadCounter unreadCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -32,29 +50,59 @@ public class NotificationServiceImpl implements NotificationService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found: " + email));
 
-        List<NotificationResponse> notifications = notificationRepository.findForUser(user.getId(), search)
-                .stream()
-                .map(this::toResponse)
-                .toList();
-        long unreadCount = notificationRepository.countByUserIdAndReadFalse(user.getId());
+        List<NotificationResponse> notifications = loadPage(user.getId(), search, false, CURSOR_START, Long.MAX_VALUE, MAX_LEGACY_LIST_SIZE);
+        long unreadCount = unreadCounter.get(user.getId());
 
         return new NotificationListResponse(notifications, unreadCount);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public NotificationPageResponse getInbox(String email, String search, boolean unreadOnly, String cursor, int limit) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found: " + email));
+
+        int pageSize = Math.max(1, Math.min(MAX_INBOX_PAGE_SIZE, limit));
+        LocalDateTime cursorCreatedAt = CURSOR_START;
+        long cursorId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            cursorCreatedAt = LocalDateTime.parse(parts[0]);
+            cursorId = Long.parseLong(parts[1]);
+        }
+
+        List<NotificationResponse> rows = loadPage(user.getId(), search, unreadOnly, cursorCreatedAt, cursorId, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<NotificationResponse> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            NotificationResponse last = items.get(items.size() - 1);
+            nextCursor = encodeCursor(last.createdAt(), last.id());
+        }
+        return new NotificationPageResponse(List.copyOf(items), nextCursor, hasMore, unreadCounter.get(user.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public long getUnreadCount(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found: " + email));
-        return notificationRepository.countByUserIdAndReadFalse(user.getId());
+        return unreadCounter.get(user.getId());
     }
 
     @Override
     public NotificationMarkAllReadResponse markAllRead(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found: " + email));
-        int marked = notificationRepository.markAllReadForUser(user.getId(), LocalDateTime.now());
-        long unreadCount = notificationRepository.countByUserIdAndReadFalse(user.getId());
+        LocalDateTime now = LocalDateTime.now();
+        int marked = notificationRepository.markAllReadForUser(user.getId(), now);
+        if (marked > 0) {
+            notificationCounterRepository.decrementUnread(user.getId(), marked, now);
+        }
+        long unreadCount = notificationCounterRepository.findUnreadCount(user.getId()).orElse(0L);
+        if (marked > 0) {
+            eventPublisher.publishEvent(new NotificationsReadEvent(user.getId(), unreadCount));
+        }
         return new NotificationMarkAllReadResponse(marked, unreadCount);
     }
 
@@ -64,23 +112,67 @@ public class NotificationServiceImpl implements NotificationService {
             return;
         }
 
-        User user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
-            return;
+        eventPublisher.publishEvent(new NotificationRequestedEvent(
+                userId,
+                type,
+                trimToLength(title, 180),
+                trimToLength(message, 4000),
+                trimToLength(link, 255),
+                LocalDateTime.now()
+        ));
+    }
+
+    private List<NotificationResponse> loadPage(
+            Long userId,
+            String search,
+            boolean unreadOnly,
+            LocalDateTime cursorCreatedAt,
+            long cursorId,
+            int limit
+    ) {
+        String query = toPrefixQuery(search);
+        if (query == null) {
+            return notificationRepository.findPage(userId, unreadOnly, cursorCreatedAt, cursorId, PageRequest.of(0, limit));
+        }
+        return notificationRepository.searchPage(userId, query, unreadOnly, cursorCreatedAt, cursorId, limit)
+                .stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    /** Builds an AND of prefix terms from letters and digits only, so input cannot break tsquery syntax. */
+    private String toPrefixQuery(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+
+        List<String> terms = new ArrayList<>();
+        for (String token : SEARCH_TOKEN_SPLIT.split(search.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty() && terms.size() < MAX_SEARCH_TERMS) {
+                terms.add(token + ":*");
+            }
         }
+        return terms.isEmpty() ? null : String.join(" & ", terms);
+    }
+
+    private String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
 
-        Notification notification = Notification.builder()
-                .user(user)
-                .type(type)
-                .title(trimToLength(title, 180))
-                .message(trimToLength(message, 4000))
-                .link(trimToLength(link, 255))
-                .read(false)
-                .build();
-        Notification saved = notificationRepository.saveAndFlush(notification);
-
-        long unreadCount = notificationRepository.countByUserIdAndReadFalse(userId);
-        notificationWebSocketHandler.pushNotification(userId, toResponse(saved), unreadCount);
+    private String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid notification cursor");
+        }
     }
 
     private NotificationResponse toResponse(Notification notification) {
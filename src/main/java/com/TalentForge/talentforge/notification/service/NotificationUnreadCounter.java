@@ -0,0 +1,195 @@
+package com.TalentForge.talentforge.notification.service;
+
+import com.TalentForge.talentforge.notification.bus.NotificationBus;
+import com.TalentForge.talentforge.notification.bus.NotificationBusMessage;
+import com.TalentForge.talentforge.notification.repository.NotificationCounterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/** Per-user unread counts, cached per node and invalidated across nodes over the bus. */
+@Component
+@Slf4j
+public class NotificationUnreadCounter {
+
+    private static final String ENSURE_COUNTER_SQL = """
+            INSERT INTO notification_counters (user_id, unread_count, updated_at)
+            SELECT ?, 0, ?
+            WHERE NOT EXISTS (SELECT 1 FROM notification_counters WHERE user_id = ?)
+            """;
+    private static final String INCREMENT_COUNTER_SQL = """
+            UPDATE notification_counters
+            SET unread_count = unread_count + ?, updated_at = ?
+            WHERE user_id = ?
+            """;
+
+    private static final int MAX_INVALIDATION_USERS = 500;
+
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final NotificationBus notificationBus;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxUsers;
+    private final ReentrantReadWriteLock insertLock = new ReentrantReadWriteLock();
+    private final Map<Long, LongAdder> counts = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private volatile LocalDateTime lastReconciledAt = LocalDateTime.now();
+
+    public NotificationUnreadCounter(
+            NotificationCounterRepository notificationCounterRepository,
+            NotificationBus notificationBus,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.notifications.unread-counter.max-users:50000}") int maxUsers
+    ) {
+        this.notificationCounterRepository = notificationCounterRepository;
+        this.notificationBus = notificationBus;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxUsers = Math.max(1, maxUsers);
+        this.hits = meterRegistry.counter("talentforge.notifications.unread_counter.requests", "result", "hit");
+        this.misses = meterRegistry.counter("talentforge.notifications.unread_counter.requests", "result", "miss");
+        meterRegistry.gauge("talentforge.notifications.unread_counter.users", counts, Map::size);
+        notificationBus.subscribe(this::onBusMessage);
+    }
+
+    public long get(Long userId) {
+        LongAdder cached = counts.get(userId);
+        if (cached != null) {
+            hits.increment();
+            return Math.max(0L, cached.sum());
+        }
+
+        misses.increment();
+        insertLock.readLock().lock();
+        try {
+            long stored = notificationCounterRepository.findUnreadCount(userId).orElse(0L);
+            if (counts.size() >= maxUsers) {
+                return stored;
+            }
+            return Math.max(0L, counts.computeIfAbsent(userId, ignored -> {
+                LongAdder adder = new LongAdder();
+                adder.add(stored);
+                return adder;
+            }).sum());
+        } finally {
+            insertLock.readLock().unlock();
+        }
+    }
+
+    /** Runs the outbox insert exclusively and applies its per-user counts to cached users. */
+    public Map<Long, Integer> recordInserted(Supplier<Map<Long, Integer>> insert) {
+        Map<Long, Integer> inserted;
+        insertLock.writeLock().lock();
+        try {
+            inserted = insert.get();
+            inserted.forEach((userId, added) -> {
+                LongAdder cached = counts.get(userId);
+                if (cached != null) {
+                    cached.add(added);
+                }
+            });
+        } finally {
+            insertLock.writeLock().unlock();
+        }
+        broadcastInvalidation(List.copyOf(inserted.keySet()));
+        return inserted;
+    }
+
+    /** Advances the stored counters; must run inside the inserting transaction. */
+    public void incrementStored(Map<Long, Integer> insertedByUser) {
+        if (insertedByUser.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> ensure = new ArrayList<>(insertedByUser.size());
+        List<Object[]> increments = new ArrayList<>(insertedByUser.size());
+        insertedByUser.forEach((userId, added) -> {
+            ensure.add(new Object[]{userId, now, userId});
+            increments.add(new Object[]{added, now, userId});
+        });
+        jdbcTemplate.batchUpdate(ENSURE_COUNTER_SQL, ensure);
+        jdbcTemplate.batchUpdate(INCREMENT_COUNTER_SQL, increments);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationsRead(NotificationsReadEvent event) {
+        evict(List.of(event.userId()));
+        broadcastInvalidation(List.of(event.userId()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.unread-counter.reconcile-interval-ms:900000}")
+    public void reconcile() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = lastReconciledAt.minusMinutes(1);
+        Integer corrected;
+        try {
+            corrected = transactionTemplate.execute(status -> notificationCounterRepository.reconcileUpdatedSince(since));
+        } catch (Exception ex) {
+            log.warn("Unread notification counter reconcile failed", ex);
+            return;
+        }
+
+        insertLock.writeLock().lock();
+        try {
+            counts.clear();
+        } finally {
+            insertLock.writeLock().unlock();
+        }
+        lastReconciledAt = startedAt;
+        if (corrected != null && corrected > 0) {
+            meterRegistry.counter("talentforge.notifications.unread_counter.corrected").increment(corrected);
+            log.info("Reconciled {} drifted unread notification counters", corrected);
+        }
+    }
+
+    private void broadcastInvalidation(List<Long> userIds) {
+        for (int from = 0; from < userIds.size(); from += MAX_INVALIDATION_USERS) {
+            notificationBus.publish(NotificationBusMessage.invalidated(
+                    NotificationBusMessage.Kind.UNREAD_COUNT_INVALIDATED,
+                    notificationBus.nodeId(),
+                    userIds.subList(from, Math.min(userIds.size(), from + MAX_INVALIDATION_USERS))
+            ));
+        }
+    }
+
+    private void onBusMessage(NotificationBusMessage message) {
+        if (message.kind() != NotificationBusMessage.Kind.UNREAD_COUNT_INVALIDATED || message.userIds() == null) {
+            return;
+        }
+        evict(message.userIds());
+    }
+
+    private void evict(List<Long> userIds) {
+        // Wait out in-flight loads so none of them re-caches a count read before the change committed.
+        insertLock.writeLock().lock();
+        try {
+            userIds.forEach(counts::remove);
+        } finally {
+            insertLock.writeLock().unlock();
+        }
+    }
+}
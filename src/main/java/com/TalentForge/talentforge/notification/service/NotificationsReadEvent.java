@@ -0,0 +1,4 @@
+package com.TalentForge.talentforge.notification.service;
+
+public record NotificationsReadEvent(Long userId, long unreadCount) {
+}
@@ -0,0 +1,216 @@
+package com.TalentForge.talentforge.notification.websocket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/** Bounded outbound queue for one WebSocket session, sent one message at a time. */
+@Slf4j
+final class NotificationSessionSender {
+
+    private static final int MAX_MESSAGES_PER_DRAIN = 32;
+
+    private final WebSocketSession session;
+    private final RemoteEndpoint.Async asyncRemote;
+    private final Executor executor;
+    private final Executor closer;
+    private final MeterRegistry meterRegistry;
+    private final int capacity;
+    private final long sendTimeLimitMs;
+    private final Deque<Outbound> queue = new ArrayDeque<>();
+    private boolean draining;
+    private boolean closing;
+    private volatile long sendStartedAt;
+
+    NotificationSessionSender(
+            WebSocketSession session,
+            Executor executor,
+            Executor closer,
+            MeterRegistry meterRegistry,
+            int capacity,
+            long sendTimeLimitMs
+    ) {
+        this.session = session;
+        this.executor = executor;
+        this.closer = closer;
+        this.meterRegistry = meterRegistry;
+        this.capacity = capacity;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.asyncRemote = asyncRemote(session, sendTimeLimitMs);
+    }
+
+    void offer(String payload, boolean countOnly) {
+        if (!session.isOpen()) {
+            return;
+        }
+
+        boolean schedule;
+        synchronized (this) {
+            if (closing) {
+                record("dropped_slow_client");
+                return;
+            }
+            if (countOnly && removeQueuedCountUpdate()) {
+                record("coalesced");
+            }
+            if (queue.size() >= capacity) {
+                queue.pollFirst();
+                record("dropped_overflow");
+            }
+            queue.addLast(new Outbound(payload, countOnly));
+            schedule = !draining;
+            draining = true;
+        }
+        if (schedule) {
+            schedule();
+        }
+    }
+
+    /** Closes the session when its current send has exceeded the send time limit. */
+    boolean closeIfStuck(long now) {
+        long startedAt = sendStartedAt;
+        if (startedAt > 0 && now - startedAt > sendTimeLimitMs) {
+            closeSlowSession();
+            return true;
+        }
+        return false;
+    }
+
+    synchronized int depth() {
+        return queue.size();
+    }
+
+    synchronized void clear() {
+        queue.clear();
+    }
+
+    private void drain() {
+        for (int sent = 0; sent < MAX_MESSAGES_PER_DRAIN; sent++) {
+            Outbound next;
+            synchronized (this) {
+                next = closing ? null : queue.pollFirst();
+                if (next == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            if (!session.isOpen()) {
+                clear();
+                continue;
+            }
+
+            sendStartedAt = System.currentTimeMillis();
+            if (asyncRemote != null) {
+                sendAsync(next.payload());
+                return;
+            }
+            try {
+                session.sendMessage(new TextMessage(next.payload()));
+                record("sent");
+            } catch (Exception ex) {
+                record("failed");
+                log.debug("Failed to push websocket notification to session={}", session.getId(), ex);
+            } finally {
+                sendStartedAt = 0;
+            }
+        }
+        schedule();
+    }
+
+    private void sendAsync(String payload) {
+        try {
+            asyncRemote.sendText(payload, result -> {
+                sendStartedAt = 0;
+                if (result.isOK()) {
+                    record("sent");
+                    schedule();
+                } else {
+                    record("failed");
+                    log.debug("Failed to push websocket notification to session={}", session.getId(), result.getException());
+                    closeSlowSession();
+                }
+            });
+        } catch (Exception ex) {
+            sendStartedAt = 0;
+            record("failed");
+            log.debug("Failed to push websocket notification to session={}", session.getId(), ex);
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException ex) {
+            synchronized (this) {
+                draining = false;
+            }
+        }
+    }
+
+    private boolean removeQueuedCountUpdate() {
+        Iterator<Outbound> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().countOnly()) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void closeSlowSession() {
+        int discarded;
+        synchronized (this) {
+            if (closing) {
+                return;
+            }
+            closing = true;
+            discarded = queue.size();
+            queue.clear();
+        }
+        meterRegistry.counter("talentforge.notifications.websocket.messages", "result", "dropped_slow_client").increment(discarded);
+        try {
+            closer.execute(() -> {
+                try {
+                    session.close(CloseStatus.SESSION_NOT_RELIABLE.withReason("Send time limit exceeded"));
+                } catch (Exception ex) {
+                    log.debug("Failed to close slow websocket session={}", session.getId(), ex);
+                }
+            });
+        } catch (RejectedExecutionException ignored) {
+            // Shutting down; the container closes the session.
+        }
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("talentforge.notifications.websocket.messages", "result", result).increment();
+    }
+
+    private static RemoteEndpoint.Async asyncRemote(WebSocketSession session, long sendTimeLimitMs) {
+        if (!(session instanceof NativeWebSocketSession nativeSession)) {
+            return null;
+        }
+        Session standardSession = nativeSession.getNativeSession(Session.class);
+        if (standardSession == null) {
+            return null;
+        }
+        RemoteEndpoint.Async remote = standardSession.getAsyncRemote();
+        remote.setSendTimeout(sendTimeLimitMs);
+        return remote;
+    }
+
+    private record Outbound(String payload, boolean countOnly) {
+    }
+}
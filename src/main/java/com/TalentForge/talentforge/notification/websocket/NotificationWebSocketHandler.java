@@ -1,17 +1,18 @@
 package com.TalentForge.talentforge.notification.websocket;
 
+import com.TalentForge.talentforge.notification.bus.NotificationPresence;
 import com.TalentForge.talentforge.notification.dto.NotificationPushMessage;
-import com.TalentForge.talentforge.notification.dto.NotificationResponse;
 import com.TalentForge.talentforge.security.JwtService;
-import com.TalentForge.talentforge.user.entity.User;
-import com.TalentForge.talentforge.user.repository.UserRepository;
+import com.TalentForge.talentforge.security.UserStatusCache;
+import com.TalentForge.talentforge.security.VerifiedJwt;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
-import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
@@ -22,23 +23,72 @@ import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/** Authenticates notification WebSocket sessions and fans pushes out through per-session queues. */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class NotificationWebSocketHandler extends TextWebSocketHandler {
 
-    private static final String EVENT_NOTIFICATION_CREATED = "NOTIFICATION_CREATED";
     private static final String TOKEN_PARAM = "token";
 
     private final JwtService jwtService;
-    private final UserRepository userRepository;
+    private final UserStatusCache userStatusCache;
+    private final NotificationPresence notificationPresence;
+    private final MeterRegistry meterRegistry;
+    private final int queueCapacity;
+    private final long sendTimeLimitMs;
+    private final ExecutorService sendExecutor;
+    private final ScheduledExecutorService reaper;
     private final ObjectMapper objectMapper = JsonMapper.builder()
             .findAndAddModules()
             .build();
 
     private final Map<Long, Set<WebSocketSession>> userSessions = new ConcurrentHashMap<>();
     private final Map<String, Long> sessionToUser = new ConcurrentHashMap<>();
+    private final Map<String, NotificationSessionSender> senders = new ConcurrentHashMap<>();
+
+    public NotificationWebSocketHandler(
+            JwtService jwtService,
+            UserStatusCache userStatusCache,
+            NotificationPresence notificationPresence,
+            MeterRegistry meterRegistry,
+            @Value("${app.notifications.websocket.queue-capacity:64}") int queueCapacity,
+            @Value("${app.notifications.websocket.send-time-limit-ms:10000}") long sendTimeLimitMs,
+            @Value("${app.notifications.websocket.send-threads:2}") int sendThreads
+    ) {
+        this.jwtService = jwtService;
+        this.userStatusCache = userStatusCache;
+        this.notificationPresence = notificationPresence;
+        this.meterRegistry = meterRegistry;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.sendTimeLimitMs = Math.max(100L, sendTimeLimitMs);
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.sendExecutor = Executors.newFixedThreadPool(Math.max(1, sendThreads), runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("notification-ws-send-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.reaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("notification-ws-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long sweepIntervalMs = Math.max(50L, this.sendTimeLimitMs / 4);
+        reaper.scheduleWithFixedDelay(this::closeStuckSessions, sweepIntervalMs, sweepIntervalMs, TimeUnit.MILLISECONDS);
+
+        meterRegistry.gauge("talentforge.notifications.websocket.sessions", senders, Map::size);
+        meterRegistry.gauge("talentforge.notifications.websocket.queue_depth", senders,
+                map -> map.values().stream().mapToInt(NotificationSessionSender::depth).sum());
+    }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -48,8 +98,10 @@ public class NotificationWebSocketHandler extends TextWebSocketHandler {
             return;
         }
 
+        senders.put(session.getId(), new NotificationSessionSender(session, sendExecutor, reaper, meterRegistry, queueCapacity, sendTimeLimitMs));
         userSessions.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(session);
         sessionToUser.put(session.getId(), userId);
+        notificationPresence.sessionOpened(userId);
     }
 
     @Override
@@ -65,47 +117,62 @@ public class NotificationWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
-    public void pushNotification(Long userId, NotificationResponse notification, long unreadCount) {
-        if (userId == null || notification == null) {
-            return;
-        }
-
+    /** Queues a push to the user's sessions on this node; returns how many it was queued to. */
+    public int deliver(Long userId, NotificationPushMessage payload) {
         Set<WebSocketSession> sessions = userSessions.get(userId);
         if (sessions == null || sessions.isEmpty()) {
-            return;
+            return 0;
         }
 
-        NotificationPushMessage payload = new NotificationPushMessage(
-                EVENT_NOTIFICATION_CREATED,
-                notification,
-                unreadCount
-        );
-
         final String messageText;
         try {
             messageText = objectMapper.writeValueAsString(payload);
         } catch (Exception ex) {
-            log.warn("Failed to serialize notification payload userId={} notificationId={}", userId, notification.id(), ex);
-            return;
+            Long notificationId = payload.notification() == null ? null : payload.notification().id();
+            log.warn("Failed to serialize notification payload userId={} notificationId={}", userId, notificationId, ex);
+            return 0;
         }
 
+        int queued = 0;
         for (WebSocketSession session : sessions) {
-            if (!session.isOpen()) {
+            NotificationSessionSender sender = senders.get(session.getId());
+            if (sender == null || !session.isOpen()) {
                 continue;
             }
+            sender.offer(messageText, payload.countOnly());
+            queued++;
+        }
+        return queued;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        reaper.shutdownNow();
+        sendExecutor.shutdown();
+        sendExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void closeStuckSessions() {
+        long now = System.currentTimeMillis();
+        for (NotificationSessionSender sender : senders.values()) {
             try {
-                session.sendMessage(new TextMessage(messageText));
+                sender.closeIfStuck(now);
             } catch (Exception ex) {
-                log.debug("Failed to push websocket notification to session={} userId={}", session.getId(), userId, ex);
+                log.debug("Failed to check websocket session for a stuck send", ex);
             }
         }
     }
 
     private void cleanupSession(WebSocketSession session) {
+        NotificationSessionSender sender = senders.remove(session.getId());
+        if (sender != null) {
+            sender.clear();
+        }
         Long userId = sessionToUser.remove(session.getId());
         if (userId == null) {
             return;
         }
+        notificationPresence.sessionClosed(userId);
 
         Set<WebSocketSession> sessions = userSessions.get(userId);
         if (sessions == null) {
@@ -124,16 +191,16 @@ public class NotificationWebSocketHandler extends TextWebSocketHandler {
         }
 
         try {
-            String email = jwtService.extractUsername(token);
-            if (email == null || email.isBlank()) {
+            VerifiedJwt verifiedJwt = jwtService.verify(token);
+            if (verifiedJwt.subject() == null || verifiedJwt.subject().isBlank()) {
                 return null;
             }
 
-            User user = userRepository.findByEmail(email).orElse(null);
-            if (user == null || !user.isActive()) {
+            UserStatusCache.UserStatus status = userStatusCache.resolve(verifiedJwt.userId(), verifiedJwt.subject()).orElse(null);
+            if (status == null || !jwtService.isTokenValid(verifiedJwt, status)) {
                 return null;
             }
-            return user.getId();
+            return status.userId();
         } catch (Exception ex) {
             log.debug("Websocket token validation failed at {}", LocalDateTime.now(), ex);
             return null;
@@ -14,12 +14,13 @@ import com.TalentForge.talentforge.payment.entity.PaymentTransaction;
 import com.TalentForge.talentforge.payment.repository.PaymentTransactionRepository;
 import com.TalentForge.talentforge.notification.entity.NotificationType;
 import com.TalentForge.talentforge.notification.service.NotificationService;
+import com.TalentForge.talentforge.security.AuthenticatedUser;
+import com.TalentForge.talentforge.security.CurrentUserAccessor;
 import com.TalentForge.talentforge.subscription.entity.PlanType;
 import com.TalentForge.talentforge.subscription.entity.Subscription;
 import com.TalentForge.talentforge.subscription.repository.SubscriptionRepository;
 import com.TalentForge.talentforge.user.entity.User;
 import com.TalentForge.talentforge.user.entity.UserRole;
-import com.TalentForge.talentforge.user.repository.UserRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -27,8 +28,6 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -82,7 +81,7 @@ public class PaymentServiceImpl implements PaymentService {
 
     private final PaymentTransactionRepository paymentTransactionRepository;
     private final SubscriptionRepository subscriptionRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserAccessor currentUserAccessor;
     private final NotificationService notificationService;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -132,8 +131,7 @@ public class PaymentServiceImpl implements PaymentService {
     @Override
     @Transactional(readOnly = true)
     public PaymentOptionsResponse getOptions() {
-        User currentUser = getAuthenticatedUserOptional();
-        UserRole pricingRole = resolvePricingRole(currentUser);
+        UserRole pricingRole = resolvePricingRole(currentUserAccessor.find().map(AuthenticatedUser::role).orElse(null));
         List<String> channels = resolveChannels(null);
         List<PaymentCurrency> currencies = resolveSupportedCurrencies();
         List<PaymentOptionsResponse.PaymentPriceOption> prices = new ArrayList<>();
@@ -183,7 +181,7 @@ public class PaymentServiceImpl implements PaymentService {
     @Override
     public PaymentInitializeResponse initialize(PaymentInitializeRequest request) {
         assertPaystackConfigured();
-        User currentUser = getAuthenticatedUser();
+        User currentUser = currentUserAccessor.requireUser();
         assertPaymentAllowedRole(currentUser);
         validateCurrencySupported(request.currency());
 
@@ -191,7 +189,7 @@ public class PaymentServiceImpl implements PaymentService {
             throw new BadRequestException("Free plan does not require payment");
         }
 
-        UserRole pricingRole = resolvePricingRole(currentUser);
+        UserRole pricingRole = resolvePricingRole(currentUser.getRole());
         Long amountUsdMinor = resolveUsdMinorAmount(request.planType(), request.billingCycle(), pricingRole);
         if (amountUsdMinor == null) {
             throw new BadRequestException("Selected plan and billing cycle requires a custom quote");
@@ -251,13 +249,12 @@ public class PaymentServiceImpl implements PaymentService {
     @Override
     public PaymentVerifyResponse verify(String reference) {
         assertPaystackConfigured();
-        User currentUser = getAuthenticatedUser();
+        AuthenticatedUser currentUser = currentUserAccessor.require();
 
         PaymentTransaction transaction = paymentTransactionRepository.findByReference(reference)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment reference not found: " + reference));
 
-        boolean isAdmin = currentUser.getRole() == UserRole.ADMIN;
-        if (!isAdmin && !transaction.getUser().getId().equals(currentUser.getId())) {
+        if (!currentUser.isAdmin() && !transaction.getUser().getId().equals(currentUser.id())) {
             throw new AccessDeniedException("You can only verify your own payments");
         }
 
@@ -272,8 +269,8 @@ public class PaymentServiceImpl implements PaymentService {
     @Override
     @Transactional(readOnly = true)
     public List<PaymentHistoryItemResponse> getHistory() {
-        User currentUser = getAuthenticatedUser();
-        return paymentTransactionRepository.findByUserIdOrderByCreatedAtDesc(currentUser.getId())
+        AuthenticatedUser currentUser = currentUserAccessor.require();
+        return paymentTransactionRepository.findByUserIdOrderByCreatedAtDesc(currentUser.id())
                 .stream()
                 .map(this::toHistoryItem)
                 .toList();
@@ -402,7 +399,7 @@ public class PaymentServiceImpl implements PaymentService {
         Subscription subscription = subscriptionRepository.findByUserId(transaction.getUser().getId())
                 .orElse(Subscription.builder().user(transaction.getUser()).build());
 
-        PlanLimits limits = resolvePlanLimits(transaction.getPlanType(), resolvePricingRole(transaction.getUser()));
+        PlanLimits limits = resolvePlanLimits(transaction.getPlanType(), resolvePricingRole(transaction.getUser() == null ? null : transaction.getUser().getRole()));
         LocalDateTime startDate = transaction.getPaidAt() == null ? LocalDateTime.now() : transaction.getPaidAt();
         LocalDateTime endDate = switch (transaction.getBillingCycle()) {
             case MONTHLY -> startDate.plusMonths(1);
@@ -462,11 +459,8 @@ public class PaymentServiceImpl implements PaymentService {
         return byCycle.get(cycle);
     }
 
-    private UserRole resolvePricingRole(User user) {
-        if (user == null) {
-            return UserRole.RECRUITER;
-        }
-        return user.getRole() == UserRole.CANDIDATE ? UserRole.CANDIDATE : UserRole.RECRUITER;
+    private UserRole resolvePricingRole(UserRole role) {
+        return role == UserRole.CANDIDATE ? UserRole.CANDIDATE : UserRole.RECRUITER;
     }
 
     private long convertUsdMinor(long usdMinor, PaymentCurrency currency) {
@@ -755,30 +749,6 @@ public class PaymentServiceImpl implements PaymentService {
         }
     }
 
-    private User getAuthenticatedUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new AccessDeniedException("Authentication required");
-        }
-
-        return userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new AccessDeniedException("Authenticated user not found"));
-    }
-
-    private User getAuthenticatedUserOptional() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            return null;
-        }
-
-        String principal = authentication.getName();
-        if (isBlank(principal) || "anonymousUser".equalsIgnoreCase(principal)) {
-            return null;
-        }
-
-        return userRepository.findByEmail(principal).orElse(null);
-    }
-
     private void assertPaymentAllowedRole(User user) {
         if (user.getRole() != UserRole.RECRUITER && user.getRole() != UserRole.ADMIN && user.getRole() != UserRole.CANDIDATE) {
             throw new AccessDeniedException("Payments are available only for recruiter, candidate, and admin accounts");
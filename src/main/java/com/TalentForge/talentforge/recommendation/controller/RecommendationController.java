@@ -0,0 +1,33 @@
+package com.TalentForge.talentforge.recommendation.controller;
+
+import com.TalentForge.talentforge.common.payload.ApiResponse;
+import com.TalentForge.talentforge.recommendation.dto.JobRecommendationResponse;
+import com.TalentForge.talentforge.recommendation.service.JobRecommendationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/recommendations")
+@RequiredArgsConstructor
+public class RecommendationController {
+
+    private final JobRecommendationService jobRecommendationService;
+
+    @GetMapping("/jobs")
+    public ResponseEntity<ApiResponse<List<JobRecommendationResponse>>> recommendJobs(
+            @RequestParam Long applicantId,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(ApiResponse.<List<JobRecommendationResponse>>builder()
+                .success(true)
+                .message("Job recommendations fetched")
+                .data(jobRecommendationService.recommendForApplicant(applicantId, limit))
+                .build());
+    }
+}
@@ -0,0 +1,13 @@
+package com.TalentForge.talentforge.recommendation.dto;
+
+import java.util.List;
+
+public record JobRecommendationResponse(
+        Long jobId,
+        String title,
+        String department,
+        String location,
+        double score,
+        List<String> matchedTerms
+) {
+}
@@ -0,0 +1,386 @@
+package com.TalentForge.talentforge.recommendation.service;
+
+import com.TalentForge.talentforge.common.text.TextTokenizer;
+import com.TalentForge.talentforge.job.dto.JobTextDocument;
+import com.TalentForge.talentforge.job.entity.JobStatus;
+import com.TalentForge.talentforge.job.repository.JobRepository;
+import com.TalentForge.talentforge.job.service.JobChangedEvent;
+import com.TalentForge.talentforge.recommendation.dto.JobRecommendationResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+/** Ranks open jobs against applicant profiles by TF-IDF cosine similarity. */
+@Component
+@Slf4j
+public class JobRecommendationEngine {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int SKILLS_WEIGHT = 2;
+    private static final int MAX_DESCRIPTION_CHARS = 6000;
+    private static final int LOAD_PAGE_SIZE = 500;
+    private static final int SCAN_CHUNK_SIZE = 1024;
+    private static final int MATCHED_TERMS = 5;
+
+    private final JobRepository jobRepository;
+    private final boolean enabled;
+    private final boolean offHeap;
+    private final Timer queryTimer;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final ScheduledExecutorService refresher;
+    private volatile Snapshot snapshot;
+
+    public JobRecommendationEngine(
+            JobRepository jobRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.recommendations.enabled:true}") boolean enabled,
+            @Value("${app.recommendations.off-heap:false}") boolean offHeap,
+            @Value("${app.recommendations.refresh-interval-ms:30000}") long refreshIntervalMs
+    ) {
+        this.jobRepository = jobRepository;
+        this.enabled = enabled;
+        this.offHeap = offHeap;
+        this.queryTimer = meterRegistry.timer("talentforge.recommendations.query");
+        meterRegistry.gauge("talentforge.recommendations.jobs", this, engine -> engine.snapshot == null ? 0 : engine.snapshot.size());
+        meterRegistry.gauge("talentforge.recommendations.vocabulary", this, engine -> engine.snapshot == null ? 0 : engine.snapshot.terms.length);
+
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("job-recommendations");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            long intervalMs = Math.max(1000L, refreshIntervalMs);
+            refresher.scheduleWithFixedDelay(this::refreshIfDirty, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isAvailable() {
+        return enabled && snapshot != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobChanged(JobChangedEvent event) {
+        boolean open = !event.deleted() && event.snapshot().status() == JobStatus.OPEN;
+        if (open || rebuilding.get() || isIndexed(event.jobId())) {
+            dirty.set(true);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private void refreshIfDirty() {
+        if (dirty.compareAndSet(true, false)) {
+            rebuild();
+        }
+    }
+
+    // A job that is not OPEN only matters if the current vectors still contain it.
+    private boolean isIndexed(Long jobId) {
+        Snapshot current = snapshot;
+        return jobId != null && current != null && Arrays.binarySearch(current.jobIds, jobId) >= 0;
+    }
+
+    public List<JobRecommendationResponse> recommend(String skills, String summary, Set<Long> excludedJobIds, int limit) {
+        Snapshot current = snapshot;
+        if (current == null || current.size() == 0) {
+            return List.of();
+        }
+        return queryTimer.record(() -> scan(current, skills, summary, excludedJobIds, Math.max(1, Math.min(50, limit))));
+    }
+
+    private void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            dirty.set(true);
+            return;
+        }
+
+        long started = System.nanoTime();
+        try {
+            Map<String, Integer> vocabulary = new HashMap<>();
+            List<String> terms = new ArrayList<>();
+            List<JobTextDocument> jobs = new ArrayList<>();
+            List<int[][]> frequencies = new ArrayList<>();
+            int[] documentFrequency = new int[1024];
+
+            Long afterId = 0L;
+            while (true) {
+                List<JobTextDocument> page = jobRepository.findTextPage(JobStatus.OPEN, afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+                if (page.isEmpty()) {
+                    break;
+                }
+                for (JobTextDocument job : page) {
+                    Map<String, Integer> counts = new HashMap<>();
+                    count(counts, job.title(), TITLE_WEIGHT);
+                    count(counts, job.department(), 1);
+                    count(counts, job.requirements(), 1);
+                    count(counts, truncate(job.description()), 1);
+
+                    int[][] termCounts = new int[2][counts.size()];
+                    int index = 0;
+                    for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+                        Integer termId = vocabulary.get(entry.getKey());
+                        if (termId == null) {
+                            termId = terms.size();
+                            vocabulary.put(entry.getKey(), termId);
+                            terms.add(entry.getKey());
+                            if (termId == documentFrequency.length) {
+                                documentFrequency = Arrays.copyOf(documentFrequency, termId * 2);
+                            }
+                        }
+                        documentFrequency[termId]++;
+                        termCounts[0][index] = termId;
+                        termCounts[1][index] = entry.getValue();
+                        index++;
+                    }
+                    jobs.add(job);
+                    frequencies.add(termCounts);
+                }
+                afterId = page.get(page.size() - 1).id();
+            }
+
+            snapshot = pack(vocabulary, terms.toArray(String[]::new), documentFrequency, jobs, frequencies);
+            log.info("Job recommendation vectors rebuilt for {} jobs, {} terms in {} ms",
+                    jobs.size(), terms.size(), (System.nanoTime() - started) / 1_000_000L);
+        } catch (Exception ex) {
+            dirty.set(true);
+            log.warn("Job recommendation rebuild failed; keeping previous vectors", ex);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private Snapshot pack(Map<String, Integer> vocabulary, String[] terms, int[] documentFrequency,
+                          List<JobTextDocument> jobs, List<int[][]> frequencies) {
+        int jobCount = jobs.size();
+        float[] idf = new float[terms.length];
+        for (int termId = 0; termId < terms.length; termId++) {
+            idf[termId] = (float) (Math.log((jobCount + 1.0) / (documentFrequency[termId] + 1.0)) + 1.0);
+        }
+
+        int[] offsets = new int[jobCount + 1];
+        for (int job = 0; job < jobCount; job++) {
+            offsets[job + 1] = offsets[job] + frequencies.get(job)[0].length;
+        }
+        IntBuffer termIds = offHeap ? directInts(offsets[jobCount]) : IntBuffer.allocate(offsets[jobCount]);
+        FloatBuffer weights = offHeap ? directFloats(offsets[jobCount]) : FloatBuffer.allocate(offsets[jobCount]);
+
+        long[] jobIds = new long[jobCount];
+        String[] titles = new String[jobCount];
+        String[] departments = new String[jobCount];
+        String[] locations = new String[jobCount];
+        for (int job = 0; job < jobCount; job++) {
+            JobTextDocument document = jobs.get(job);
+            jobIds[job] = document.id();
+            titles[job] = document.title();
+            departments[job] = document.department();
+            locations[job] = document.location();
+
+            int[][] termCounts = frequencies.get(job);
+            Integer[] order = new Integer[termCounts[0].length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingInt(i -> termCounts[0][i]));
+
+            float[] vector = new float[order.length];
+            double norm = 0;
+            for (int i = 0; i < order.length; i++) {
+                int termId = termCounts[0][order[i]];
+                vector[i] = (float) (1.0 + Math.log(termCounts[1][order[i]])) * idf[termId];
+                norm += vector[i] * vector[i];
+            }
+            float scale = norm == 0 ? 0f : (float) (1.0 / Math.sqrt(norm));
+            for (int i = 0; i < order.length; i++) {
+                termIds.put(offsets[job] + i, termCounts[0][order[i]]);
+                weights.put(offsets[job] + i, vector[i] * scale);
+            }
+        }
+
+        return new Snapshot(Map.copyOf(vocabulary), terms, idf, jobIds, titles, departments, locations, offsets, termIds, weights);
+    }
+
+    private List<JobRecommendationResponse> scan(Snapshot current, String skills, String summary, Set<Long> excludedJobIds, int limit) {
+        Map<String, Integer> counts = new HashMap<>();
+        count(counts, skills, SKILLS_WEIGHT);
+        count(counts, truncate(summary), 1);
+
+        int[] termIds = new int[counts.size()];
+        int size = 0;
+        for (String term : counts.keySet()) {
+            Integer termId = current.vocabulary.get(term);
+            if (termId != null) {
+                termIds[size++] = termId;
+            }
+        }
+        if (size == 0) {
+            return List.of();
+        }
+        termIds = Arrays.copyOf(termIds, size);
+        Arrays.sort(termIds);
+
+        float[] queryWeights = new float[size];
+        double norm = 0;
+        for (int i = 0; i < size; i++) {
+            int termId = termIds[i];
+            queryWeights[i] = (float) (1.0 + Math.log(counts.get(current.terms[termId]))) * current.idf[termId];
+            norm += queryWeights[i] * queryWeights[i];
+        }
+        if (norm == 0) {
+            return List.of();
+        }
+        float scale = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < size; i++) {
+            queryWeights[i] *= scale;
+        }
+        QueryVector query = new QueryVector(termIds, queryWeights);
+
+        int chunks = (current.size() + SCAN_CHUNK_SIZE - 1) / SCAN_CHUNK_SIZE;
+        IntStream chunkStream = IntStream.range(0, chunks);
+        if (chunks > 1 && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            chunkStream = chunkStream.parallel();
+        }
+        List<ScoredJob> candidates = chunkStream
+                .mapToObj(chunk -> topK(current, query, excludedJobIds, chunk * SCAN_CHUNK_SIZE,
+                        Math.min(current.size(), (chunk + 1) * SCAN_CHUNK_SIZE), limit))
+                .flatMap(List::stream)
+                .sorted(Comparator.comparingDouble(ScoredJob::score).reversed().thenComparingInt(ScoredJob::job))
+                .limit(limit)
+                .toList();
+
+        return candidates.stream()
+                .map(candidate -> new JobRecommendationResponse(
+                        current.jobIds[candidate.job()],
+                        current.titles[candidate.job()],
+                        current.departments[candidate.job()],
+                        current.locations[candidate.job()],
+                        Math.round(candidate.score() * 1000.0) / 1000.0,
+                        matchedTerms(current, query, candidate.job())
+                ))
+                .toList();
+    }
+
+    private List<ScoredJob> topK(Snapshot current, QueryVector query, Set<Long> excludedJobIds, int from, int to, int limit) {
+        PriorityQueue<ScoredJob> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(ScoredJob::score));
+        for (int job = from; job < to; job++) {
+            float score = 0f;
+            for (int i = current.offsets[job]; i < current.offsets[job + 1]; i++) {
+                score += query.weight(current.termIds.get(i)) * current.weights.get(i);
+            }
+            if (score <= 0f || excludedJobIds.contains(current.jobIds[job])) {
+                continue;
+            }
+            if (top.size() < limit) {
+                top.offer(new ScoredJob(job, score));
+            } else if (score > top.peek().score()) {
+                top.poll();
+                top.offer(new ScoredJob(job, score));
+            }
+        }
+        return new ArrayList<>(top);
+    }
+
+    private List<String> matchedTerms(Snapshot current, QueryVector query, int job) {
+        List<float[]> contributions = new ArrayList<>();
+        for (int i = current.offsets[job]; i < current.offsets[job + 1]; i++) {
+            int termId = current.termIds.get(i);
+            float contribution = query.weight(termId) * current.weights.get(i);
+            if (contribution > 0f) {
+                contributions.add(new float[]{termId, contribution});
+            }
+        }
+        return contributions.stream()
+                .sorted((left, right) -> Float.compare(right[1], left[1]))
+                .limit(MATCHED_TERMS)
+                .map(entry -> current.terms[(int) entry[0]])
+                .toList();
+    }
+
+    private void count(Map<String, Integer> counts, String text, int weight) {
+        for (String token : TextTokenizer.tokenize(text)) {
+            if (token.length() >= 2) {
+                counts.merge(token, weight, Integer::sum);
+            }
+        }
+    }
+
+    private String truncate(String value) {
+        return value != null && value.length() > MAX_DESCRIPTION_CHARS ? value.substring(0, MAX_DESCRIPTION_CHARS) : value;
+    }
+
+    private IntBuffer directInts(int size) {
+        return ByteBuffer.allocateDirect(Math.max(1, size) * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    private FloatBuffer directFloats(int size) {
+        return ByteBuffer.allocateDirect(Math.max(1, size) * Float.BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer();
+    }
+
+    // Sorted term ids with their weights; a query touches a handful of terms, not the whole vocabulary.
+    private record QueryVector(int[] termIds, float[] weights) {
+
+        float weight(int termId) {
+            int index = Arrays.binarySearch(termIds, termId);
+            return index >= 0 ? weights[index] : 0f;
+        }
+    }
+
+    private record ScoredJob(int job, float score) {
+    }
+
+    private record Snapshot(
+            Map<String, Integer> vocabulary,
+            String[] terms,
+            float[] idf,
+            long[] jobIds,
+            String[] titles,
+            String[] departments,
+            String[] locations,
+            int[] offsets,
+            IntBuffer termIds,
+            FloatBuffer weights
+    ) {
+        private int size() {
+            return jobIds.length;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.TalentForge.talentforge.recommendation.service;
+
+import com.TalentForge.talentforge.recommendation.dto.JobRecommendationResponse;
+
+import java.util.List;
+
+public interface JobRecommendationService {
+    List<JobRecommendationResponse> recommendForApplicant(Long applicantId, int limit);
+}
@@ -0,0 +1,39 @@
+package com.TalentForge.talentforge.recommendation.service;
+
+import com.TalentForge.talentforge.applicant.entity.Applicant;
+import com.TalentForge.talentforge.applicant.repository.ApplicantRepository;
+import com.TalentForge.talentforge.application.repository.ApplicationRepository;
+import com.TalentForge.talentforge.common.exception.ResourceNotFoundException;
+import com.TalentForge.talentforge.recommendation.dto.JobRecommendationResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class JobRecommendationServiceImpl implements JobRecommendationService {
+
+    private final ApplicantRepository applicantRepository;
+    private final ApplicationRepository applicationRepository;
+    private final JobRecommendationEngine jobRecommendationEngine;
+
+    @Override
+    public List<JobRecommendationResponse> recommendForApplicant(Long applicantId, int limit) {
+        Applicant applicant = applicantRepository.findById(applicantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Applicant not found: " + applicantId));
+        if (!jobRecommendationEngine.isAvailable()) {
+            return List.of();
+        }
+
+        return jobRecommendationEngine.recommend(
+                applicant.getSkills(),
+                applicant.getSummary(),
+                new HashSet<>(applicationRepository.findJobIdsByApplicantId(applicantId)),
+                limit
+        );
+    }
+}
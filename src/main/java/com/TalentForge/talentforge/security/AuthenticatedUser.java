@@ -0,0 +1,21 @@
+package com.TalentForge.talentforge.security;
+
+import com.TalentForge.talentforge.user.entity.UserRole;
+
+import java.security.Principal;
+
+public record AuthenticatedUser(
+        Long id,
+        String email,
+        UserRole role
+) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public boolean isAdmin() {
+        return role == UserRole.ADMIN;
+    }
+}
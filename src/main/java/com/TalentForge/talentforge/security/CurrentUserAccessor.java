@@ -0,0 +1,61 @@
+package com.TalentForge.talentforge.security;
+
+import com.TalentForge.talentforge.user.entity.User;
+import com.TalentForge.talentforge.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class CurrentUserAccessor {
+
+    private static final String CURRENT_USER_ATTRIBUTE = CurrentUserAccessor.class.getName() + ".user";
+
+    private final UserRepository userRepository;
+
+    public Optional<AuthenticatedUser> find() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return Optional.empty();
+        }
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return Optional.of(principal);
+        }
+        return Optional.empty();
+    }
+
+    public AuthenticatedUser require() {
+        return find().orElseThrow(() -> new AccessDeniedException("Authentication required"));
+    }
+
+    /** Loads the authenticated user's entity once per request. */
+    public Optional<User> findUser() {
+        Optional<AuthenticatedUser> principal = find();
+        if (principal.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && attributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User cached) {
+            return Optional.of(cached);
+        }
+
+        Optional<User> user = userRepository.findById(principal.get().id());
+        if (attributes != null) {
+            user.ifPresent(found -> attributes.setAttribute(CURRENT_USER_ATTRIBUTE, found, RequestAttributes.SCOPE_REQUEST));
+        }
+        return user;
+    }
+
+    public User requireUser() {
+        require();
+        return findUser().orElseThrow(() -> new AccessDeniedException("Authenticated user not found"));
+    }
+}
@@ -0,0 +1,126 @@
+package com.TalentForge.talentforge.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class JwtTokenVerifier {
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final int maxEntries;
+    private final Map<String, VerifiedJwt> verifiedTokens;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter rejections;
+
+    public JwtTokenVerifier(
+            MeterRegistry meterRegistry,
+            @Value("${app.security.jwt.secret}") String jwtSecret,
+            @Value("${app.security.jwt.claims-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(jwtSecret));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.maxEntries = Math.max(0, maxEntries);
+        this.verifiedTokens = new LinkedHashMap<>(Math.min(Math.max(this.maxEntries, 16), 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedJwt> eldest) {
+                return size() > JwtTokenVerifier.this.maxEntries;
+            }
+        };
+        this.hits = meterRegistry.counter("talentforge.security.jwt_cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("talentforge.security.jwt_cache.requests", "result", "miss");
+        this.rejections = meterRegistry.counter("talentforge.security.jwt.rejected");
+        meterRegistry.gauge("talentforge.security.jwt_cache.entries", this, verifier -> verifier.size());
+    }
+
+    SecretKey signingKey() {
+        return signingKey;
+    }
+
+    /** Verifies signature and expiry, parsing each token at most once while cached. */
+    public VerifiedJwt verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new JwtException("JWT token is empty");
+        }
+
+        Instant now = Instant.now();
+        String key = tokenHash(token);
+        VerifiedJwt cached = lookup(key, now);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        VerifiedJwt verified;
+        try {
+            verified = toVerifiedJwt(parser.parseSignedClaims(token).getPayload());
+        } catch (JwtException | IllegalArgumentException ex) {
+            rejections.increment();
+            throw ex;
+        }
+        if (verified.isExpired(now)) {
+            rejections.increment();
+            throw new ExpiredJwtException(null, null, "JWT token expired at " + verified.expiresAt());
+        }
+
+        store(key, verified);
+        return verified;
+    }
+
+    private synchronized VerifiedJwt lookup(String key, Instant now) {
+        VerifiedJwt cached = verifiedTokens.get(key);
+        if (cached != null && cached.isExpired(now)) {
+            verifiedTokens.remove(key);
+            return null;
+        }
+        return cached;
+    }
+
+    private synchronized void store(String key, VerifiedJwt verified) {
+        if (maxEntries > 0) {
+            verifiedTokens.put(key, verified);
+        }
+    }
+
+    private synchronized int size() {
+        return verifiedTokens.size();
+    }
+
+    private VerifiedJwt toVerifiedJwt(Claims claims) {
+        Object userId = claims.get("userId");
+        return new VerifiedJwt(
+                claims.getSubject(),
+                userId instanceof Number number ? number.longValue() : null,
+                claims.get("role", String.class),
+                claims.getExpiration() == null ? null : claims.getExpiration().toInstant()
+        );
+    }
+
+    private String tokenHash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
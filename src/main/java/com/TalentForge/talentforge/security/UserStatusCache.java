@@ -0,0 +1,137 @@
+package com.TalentForge.talentforge.security;
+
+import com.TalentForge.talentforge.notification.bus.NotificationBus;
+import com.TalentForge.talentforge.notification.bus.NotificationBusMessage;
+import com.TalentForge.talentforge.user.entity.User;
+import com.TalentForge.talentforge.user.entity.UserRole;
+import com.TalentForge.talentforge.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+public class UserStatusCache {
+
+    private final UserRepository userRepository;
+    private final NotificationBus notificationBus;
+    private final long ttlMs;
+    private final int maxEntries;
+    private final Map<Long, CachedStatus> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    public UserStatusCache(
+            UserRepository userRepository,
+            NotificationBus notificationBus,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.user-status-cache.ttl-ms:30000}") long ttlMs,
+            @Value("${app.security.user-status-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.userRepository = userRepository;
+        this.notificationBus = notificationBus;
+        this.ttlMs = Math.max(0L, ttlMs);
+        this.maxEntries = Math.max(1, maxEntries);
+        this.entries = new LinkedHashMap<>(Math.min(this.maxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedStatus> eldest) {
+                return size() > UserStatusCache.this.maxEntries;
+            }
+        };
+        this.hits = meterRegistry.counter("talentforge.security.user_status_cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("talentforge.security.user_status_cache.requests", "result", "miss");
+        this.invalidations = meterRegistry.counter("talentforge.security.user_status_cache.invalidations");
+        meterRegistry.gauge("talentforge.security.user_status_cache.entries", this, cache -> cache.size());
+        notificationBus.subscribe(this::onBusMessage);
+    }
+
+    /** Returns the user's active flag and role, reading the database only when missing or stale. */
+    public Optional<UserStatus> resolve(Long userId, String email) {
+        long now = System.currentTimeMillis();
+        if (userId != null) {
+            UserStatus cached = lookup(userId, now);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+        }
+
+        misses.increment();
+        Optional<User> user = userId != null ? userRepository.findById(userId) : userRepository.findByEmail(email);
+        return user.map(found -> {
+            UserStatus status = new UserStatus(found.getId(), found.getEmail(), found.getRole(), found.isActive());
+            store(status, now);
+            return status;
+        });
+    }
+
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        evict(userId);
+        notificationBus.publish(NotificationBusMessage.invalidated(
+                NotificationBusMessage.Kind.USER_STATUS_INVALIDATED,
+                notificationBus.nodeId(),
+                List.of(userId)
+        ));
+    }
+
+    private void onBusMessage(NotificationBusMessage message) {
+        if (message.kind() == NotificationBusMessage.Kind.USER_STATUS_INVALIDATED && message.userIds() != null) {
+            message.userIds().forEach(this::evict);
+        }
+    }
+
+    private void evict(Long userId) {
+        boolean removed;
+        synchronized (this) {
+            removed = entries.remove(userId) != null;
+        }
+        if (removed) {
+            invalidations.increment();
+        }
+    }
+
+    private synchronized UserStatus lookup(Long userId, long now) {
+        CachedStatus cached = entries.get(userId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAtEpochMs() <= now) {
+            entries.remove(userId);
+            return null;
+        }
+        return cached.status();
+    }
+
+    private synchronized void store(UserStatus status, long now) {
+        if (ttlMs > 0) {
+            entries.put(status.userId(), new CachedStatus(status, now + ttlMs));
+        }
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    public record UserStatus(
+            Long userId,
+            String email,
+            UserRole role,
+            boolean active
+    ) {
+    }
+
+    private record CachedStatus(
+            UserStatus status,
+            long expiresAtEpochMs
+    ) {
+    }
+}
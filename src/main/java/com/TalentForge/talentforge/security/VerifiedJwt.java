@@ -0,0 +1,14 @@
+package com.TalentForge.talentforge.security;
+
+import java.time.Instant;
+
+public record VerifiedJwt(
+        String subject,
+        Long userId,
+        String role,
+        Instant expiresAt
+) {
+    public boolean isExpired(Instant now) {
+        return expiresAt == null || !expiresAt.isAfter(now);
+    }
+}
@@ -4,6 +4,7 @@ import com.TalentForge.talentforge.common.exception.ResourceNotFoundException;
 import com.TalentForge.talentforge.common.exception.BadRequestException;
 import com.TalentForge.talentforge.notification.entity.NotificationType;
 import com.TalentForge.talentforge.notification.service.NotificationService;
+import com.TalentForge.talentforge.security.UserStatusCache;
 import com.TalentForge.talentforge.user.dto.UserCreateRequest;
 import com.TalentForge.talentforge.user.dto.UserResponse;
 import com.TalentForge.talentforge.user.dto.UserUpdateRequest;
@@ -25,6 +26,7 @@ public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final NotificationService notificationService;
+    private final UserStatusCache userStatusCache;
 
     @Override
     public UserResponse create(UserCreateRequest request) {
@@ -59,6 +61,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found: " + id));
         user.setActive(false);
         User saved = userRepository.save(user);
+        userStatusCache.invalidate(saved.getId());
         notificationService.createForUser(
                 saved.getId(),
                 NotificationType.SYSTEM,
@@ -75,6 +78,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found: " + id));
         user.setActive(true);
         User saved = userRepository.save(user);
+        userStatusCache.invalidate(saved.getId());
         notificationService.createForUser(
                 saved.getId(),
                 NotificationType.SYSTEM,
@@ -141,6 +145,7 @@ public class UserServiceImpl implements UserService {
         }
 
         User saved = userRepository.save(user);
+        userStatusCache.invalidate(saved.getId());
         notificationService.createForUser(
                 saved.getId(),
                 NotificationType.SYSTEM,
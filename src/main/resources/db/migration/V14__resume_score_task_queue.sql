@@ -0,0 +1,22 @@
+ALTER TABLE resume_score_tasks
+    ADD COLUMN IF NOT EXISTS resume_file_path VARCHAR(500),
+    ADD COLUMN IF NOT EXISTS file_size BIGINT,
+    ADD COLUMN IF NOT EXISTS job_description TEXT,
+    ADD COLUMN IF NOT EXISTS requirements TEXT,
+    ADD COLUMN IF NOT EXISTS cover_letter TEXT,
+    ADD COLUMN IF NOT EXISTS attempts INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS max_attempts INTEGER NOT NULL DEFAULT 3,
+    ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP,
+    ADD COLUMN IF NOT EXISTS lease_owner VARCHAR(120),
+    ADD COLUMN IF NOT EXISTS lease_expires_at TIMESTAMP,
+    ADD COLUMN IF NOT EXISTS heartbeat_at TIMESTAMP;
+
+UPDATE resume_score_tasks
+SET status = 'FAILED',
+    error_message = 'Task was interrupted before durable queueing was enabled. Please resubmit the resume.',
+    completed_at = CURRENT_TIMESTAMP
+WHERE status IN ('QUEUED', 'PROCESSING');
+
+CREATE INDEX IF NOT EXISTS idx_resume_score_tasks_claimable
+    ON resume_score_tasks(status, next_attempt_at)
+    WHERE status IN ('QUEUED', 'PROCESSING');
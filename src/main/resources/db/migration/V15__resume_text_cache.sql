@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS resume_text_cache (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    extracted_text TEXT NOT NULL,
+    char_count INTEGER NOT NULL,
+    byte_size BIGINT NOT NULL,
+    hit_count BIGINT NOT NULL DEFAULT 0,
+    last_accessed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_resume_text_cache_last_accessed_at
+    ON resume_text_cache(last_accessed_at);
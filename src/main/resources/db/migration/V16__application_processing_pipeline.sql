@@ -0,0 +1,9 @@
+ALTER TABLE applications
+    ADD COLUMN IF NOT EXISTS processing_state VARCHAR(32) NOT NULL DEFAULT 'COMPLETED',
+    ADD COLUMN IF NOT EXISTS processing_attempts INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS processing_lease_expires_at TIMESTAMP,
+    ADD COLUMN IF NOT EXISTS submitted_by_user_id BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_applications_processing_pending
+    ON applications(processing_state, updated_at)
+    WHERE processing_state NOT IN ('COMPLETED', 'FAILED');
@@ -0,0 +1,6 @@
+CREATE INDEX IF NOT EXISTS idx_jobs_status_id ON jobs(status, id DESC);
+CREATE INDEX IF NOT EXISTS idx_jobs_recruiter_status_id ON jobs(recruiter_id, status, id DESC);
+CREATE INDEX IF NOT EXISTS idx_jobs_status_location_id ON jobs(status, location, id DESC);
+CREATE INDEX IF NOT EXISTS idx_jobs_status_job_type_id ON jobs(status, job_type, id DESC);
+CREATE INDEX IF NOT EXISTS idx_jobs_status_experience_level_id ON jobs(status, experience_level, id DESC);
+CREATE INDEX IF NOT EXISTS idx_jobs_status_department_id ON jobs(status, department, id DESC);
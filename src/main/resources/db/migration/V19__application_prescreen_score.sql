@@ -0,0 +1,6 @@
+ALTER TABLE applications
+    ADD COLUMN IF NOT EXISTS prescreen_score DOUBLE PRECISION;
+
+CREATE INDEX IF NOT EXISTS idx_applications_job_prescreen_score
+    ON applications(job_id, prescreen_score)
+    WHERE prescreen_score IS NOT NULL;
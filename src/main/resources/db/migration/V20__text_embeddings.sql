@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS text_embeddings (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    model VARCHAR(120) NOT NULL,
+    dimensions INTEGER NOT NULL,
+    embedding BYTEA NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+ALTER TABLE applications
+    ADD COLUMN IF NOT EXISTS embedding_hash VARCHAR(64);
+
+CREATE INDEX IF NOT EXISTS idx_applications_job_embedding
+    ON applications(job_id, embedding_hash)
+    WHERE embedding_hash IS NOT NULL;
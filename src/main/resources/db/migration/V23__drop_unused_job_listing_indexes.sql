@@ -0,0 +1,3 @@
+DROP INDEX IF EXISTS idx_jobs_status_job_type_id;
+DROP INDEX IF EXISTS idx_jobs_status_experience_level_id;
+DROP INDEX IF EXISTS idx_jobs_recruiter_id;
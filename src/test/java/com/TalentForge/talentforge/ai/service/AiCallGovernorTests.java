@@ -0,0 +1,126 @@
+package com.TalentForge.talentforge.ai.service;
+
+import com.TalentForge.talentforge.common.exception.AiServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiCallGovernorTests {
+
+	private AiCallGovernor governor;
+
+	@AfterEach
+	void shutdown() {
+		if (governor != null) {
+			governor.shutdownLanes();
+		}
+	}
+
+	@Test
+	void timeoutStartsWhenTheCallBeginsNotWhenItIsQueued() throws Exception {
+		governor = newGovernor(3, 1);
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(
+				() -> governor.call(AiCallType.SCORE, 1000, 1, () -> sleepThen(700, "first")));
+		Thread.sleep(50);
+
+		String second = governor.call(AiCallType.SCORE, 1000, 1, () -> sleepThen(600, "second"));
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+		assertThat(second).isEqualTo("second");
+	}
+
+	@Test
+	void queuedTimeoutsDoNotOpenTheCircuit() throws Exception {
+		governor = newGovernor(1, 1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> blocker = CompletableFuture.supplyAsync(
+				() -> governor.call(AiCallType.SCORE, 5000, 1, () -> awaitThen(release, "done")));
+		Thread.sleep(50);
+
+		for (int i = 0; i < 3; i++) {
+			assertThatThrownBy(() -> governor.call(AiCallType.SCORE, 1000, 1, () -> "queued"))
+					.isInstanceOf(AiServiceUnavailableException.class)
+					.hasMessageContaining("saturated");
+		}
+
+		release.countDown();
+		assertThat(blocker.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+		assertThat(governor.call(AiCallType.SCORE, 1000, 1, () -> "after")).isEqualTo("after");
+	}
+
+	@Test
+	void failuresOpenOnlyTheFailingLane() {
+		governor = newGovernor(2, 2);
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> governor.call(AiCallType.SCORE, 1000, 1, () -> {
+				throw new IllegalStateException("ollama down");
+			})).isNotInstanceOf(AiServiceUnavailableException.class);
+		}
+
+		assertThatThrownBy(() -> governor.call(AiCallType.SCORE, 1000, 1, () -> "score"))
+				.isInstanceOf(AiServiceUnavailableException.class)
+				.hasMessageContaining("cooling down");
+		assertThat(governor.call(AiCallType.CHAT, 1000, 1, () -> "chat")).isEqualTo("chat");
+	}
+
+	@Test
+	void streamReleasesPermitsWhenTheRequestThrowsSynchronously() {
+		governor = new AiCallGovernor(
+				new SimpleMeterRegistry(),
+				1, 1, 1, 0.5, 0,
+				10, 60000, 1,
+				2, 20,
+				1, 20,
+				2, 20,
+				2, 20
+		);
+		for (int i = 0; i < 3; i++) {
+			assertThatThrownBy(() -> governor.stream(AiCallType.CHAT, 1000, 1000, () -> {
+				throw new IllegalStateException("prompt failed");
+			}).collectList().block()).isInstanceOf(IllegalStateException.class);
+		}
+
+		List<String> tokens = governor.stream(AiCallType.CHAT, 1000, 1000, () -> Flux.just("a", "b")).collectList().block();
+		assertThat(tokens).containsExactly("a", "b");
+	}
+
+	private AiCallGovernor newGovernor(int failureThreshold, int scoreConcurrency) {
+		return new AiCallGovernor(
+				new SimpleMeterRegistry(),
+				4, 1, 8, 0.5, 1,
+				failureThreshold, 60000, 1,
+				2, 20,
+				1, 20,
+				scoreConcurrency, 20,
+				2, 20
+		);
+	}
+
+	private static String sleepThen(long millis, String value) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		return value;
+	}
+
+	private static String awaitThen(CountDownLatch latch, String value) {
+		try {
+			latch.await();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		return value;
+	}
+}
@@ -0,0 +1,47 @@
+package com.TalentForge.talentforge.ai.service;
+
+import com.TalentForge.talentforge.ai.dto.AiPreScreenResult;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PreScreenScorerTests {
+
+	private final PreScreenScorer scorer = new PreScreenScorer(3.0, 1.0, "power bi", "github actions=ci/cd");
+
+	@Test
+	void multiWordSkillsMatchWhenTheirTailIsNotAJobTermOfItsOwn() {
+		AiPreScreenResult result = scorer.score("Analyst fluent in Power BI", "Built Power BI dashboards");
+
+		assertThat(result.matchingKeywords()).contains("power bi");
+	}
+
+	@Test
+	void multiWordSynonymsFoldIntoTheJobTerm() {
+		AiPreScreenResult result = scorer.score("Release engineer owning CI/CD", "Maintained GitHub Actions workflows");
+
+		assertThat(result.matchingKeywords()).contains("ci/cd");
+	}
+
+	@Test
+	void singleWordSynonymsFoldIntoTheJobTerm() {
+		AiPreScreenResult result = scorer.score("Platform engineer: Kubernetes and JavaScript", "Ran k8s clusters and wrote JS tooling");
+
+		assertThat(result.matchingKeywords()).contains("kubernetes", "javascript");
+	}
+
+	@Test
+	void punctuationBreaksPhrases() {
+		AiPreScreenResult result = scorer.score("Analyst fluent in Power BI", "Power, BI");
+
+		assertThat(result.matchingKeywords()).doesNotContain("power bi");
+	}
+
+	@Test
+	void resumeWithoutJobTermsScoresZero() {
+		AiPreScreenResult result = scorer.score("Senior Java engineer", "Pastry chef and baker");
+
+		assertThat(result.score()).isZero();
+		assertThat(result.matchingKeywords()).isEmpty();
+	}
+}
@@ -0,0 +1,63 @@
+package com.TalentForge.talentforge.job.service;
+
+import com.TalentForge.talentforge.job.dto.JobIndexDocument;
+import com.TalentForge.talentforge.job.dto.JobIndexHit;
+import com.TalentForge.talentforge.job.entity.JobStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobSearchIndexTests {
+
+	private JobSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new JobSearchIndex(null, new SimpleMeterRegistry(), true);
+		open(1L, "Senior Java Engineer", "Spring Boot, PostgreSQL and Kafka", "Platform");
+		open(2L, "Frontend Developer", "React, TypeScript and Node.js tooling", "Web");
+		open(3L, "Data Engineer", "Python, Spark and some Java", "Data");
+	}
+
+	@Test
+	void titleMatchesRankAboveRequirementMatches() {
+		assertThat(index.search("java", 10))
+				.extracting(JobIndexHit::jobId)
+				.containsExactly(1L, 3L);
+	}
+
+	@Test
+	void dottedTechnologyNamesStayOneToken() {
+		assertThat(index.search("node.js", 10))
+				.extracting(JobIndexHit::jobId)
+				.containsExactly(2L);
+	}
+
+	@Test
+	void stopWordOnlyQueriesMatchNothing() {
+		assertThat(index.search("the and with", 10)).isEmpty();
+	}
+
+	@Test
+	void autocompleteRequiresCompleteWordsAndPrefixesTheLastOne() {
+		assertThat(index.autocomplete("data eng", 10))
+				.extracting(JobIndexHit::jobId)
+				.containsExactly(3L);
+		assertThat(index.autocomplete("frontend eng", 10)).isEmpty();
+	}
+
+	@Test
+	void closedJobsLeaveTheIndex() {
+		index.onJobChanged(new JobChangedEvent(1L, new JobIndexDocument(1L, "Senior Java Engineer", "", "Platform", JobStatus.CLOSED)));
+
+		assertThat(index.search("java", 10))
+				.extracting(JobIndexHit::jobId)
+				.containsExactly(3L);
+	}
+
+	private void open(Long id, String title, String requirements, String department) {
+		index.onJobChanged(new JobChangedEvent(id, new JobIndexDocument(id, title, requirements, department, JobStatus.OPEN)));
+	}
+}
@@ -0,0 +1,120 @@
+package com.TalentForge.talentforge.notification.service;
+
+import com.TalentForge.talentforge.notification.entity.NotificationType;
+import com.TalentForge.talentforge.user.entity.User;
+import com.TalentForge.talentforge.user.entity.UserRole;
+import com.TalentForge.talentforge.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class NotificationOutboxTests {
+
+	@Autowired
+	private NotificationService notificationService;
+
+	@Autowired
+	private NotificationOutbox notificationOutbox;
+
+	@Autowired
+	private NotificationUnreadCounter unreadCounter;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		userId = userRepository.save(User.builder()
+				.email(UUID.randomUUID() + "@example.com")
+				.password("secret")
+				.fullName("Outbox Test")
+				.role(UserRole.CANDIDATE)
+				.build()).getId();
+	}
+
+	@Test
+	void committedRequestsAreMovedIntoNotifications() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+				notificationService.createForUser(userId, NotificationType.APPLICATION_SUBMITTED, "Submitted", "Your application was received", null));
+
+		drain(userId);
+
+		assertThat(notificationCount()).isEqualTo(1);
+		assertThat(outboxCount()).isZero();
+		assertThat(unreadCounter.get(userId)).isEqualTo(1);
+	}
+
+	@Test
+	void rolledBackRequestsNeverReachTheOutbox() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			notificationService.createForUser(userId, NotificationType.APPLICATION_SUBMITTED, "Submitted", "Your application was received", null);
+			status.setRollbackOnly();
+		});
+
+		drain(userId);
+
+		assertThat(outboxCount()).isZero();
+		assertThat(notificationCount()).isZero();
+	}
+
+	@Test
+	void requestsForUnknownUsersAreDropped() {
+		notificationService.createForUser(Long.MAX_VALUE, NotificationType.APPLICATION_SUBMITTED, "Submitted", "Your application was received", null);
+
+		drain(Long.MAX_VALUE);
+
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification_outbox WHERE user_id = ?", Long.class, Long.MAX_VALUE)).isZero();
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications WHERE user_id = ?", Long.class, Long.MAX_VALUE)).isZero();
+	}
+
+	@Test
+	void aFailingEntryIsDroppedWithoutLosingTheRestOfItsBatch() {
+		// Match the migration's VARCHAR column so a type retired since the row was written can be stored.
+		jdbcTemplate.execute("ALTER TABLE notification_outbox ALTER COLUMN type SET DATA TYPE VARCHAR(64)");
+		jdbcTemplate.update("""
+				INSERT INTO notification_outbox (user_id, type, title, message, link, created_at, attempts, next_attempt_at)
+				VALUES (?, 'RETIRED_TYPE', 'Stale', 'Type no longer exists', NULL, CURRENT_TIMESTAMP, 7, CURRENT_TIMESTAMP)
+				""", userId);
+		new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+				notificationService.createForUser(userId, NotificationType.APPLICATION_SUBMITTED, "Submitted", "Your application was received", null));
+
+		drain(userId);
+
+		assertThat(outboxCount()).isZero();
+		assertThat(notificationCount()).isEqualTo(1);
+	}
+
+	// The background drainer may hold the rows, so flush until they are gone rather than exactly once.
+	private void drain(Long owner) {
+		long deadline = System.currentTimeMillis() + 5000;
+		do {
+			notificationOutbox.flush();
+		} while (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification_outbox WHERE user_id = ?", Long.class, owner) > 0
+				&& System.currentTimeMillis() < deadline);
+	}
+
+	private long notificationCount() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications WHERE user_id = ?", Long.class, userId);
+	}
+
+	private long outboxCount() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification_outbox WHERE user_id = ?", Long.class, userId);
+	}
+}
@@ -0,0 +1,128 @@
+package com.TalentForge.talentforge.notification.service;
+
+import com.TalentForge.talentforge.notification.bus.NotificationBus;
+import com.TalentForge.talentforge.notification.bus.NotificationBusMessage;
+import com.TalentForge.talentforge.notification.repository.NotificationCounterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationUnreadCounterTests {
+
+	private NotificationCounterRepository repository;
+	private RecordingBus bus;
+	private NotificationUnreadCounter counter;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(NotificationCounterRepository.class);
+		bus = new RecordingBus();
+		counter = new NotificationUnreadCounter(repository, bus, mock(JdbcTemplate.class), mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 2);
+	}
+
+	@Test
+	void storedCountIsLoadedOnceAndThenServedFromCache() {
+		when(repository.findUnreadCount(1L)).thenReturn(Optional.of(4L));
+
+		assertThat(counter.get(1L)).isEqualTo(4);
+		assertThat(counter.get(1L)).isEqualTo(4);
+
+		verify(repository, times(1)).findUnreadCount(1L);
+	}
+
+	@Test
+	void insertsAdvanceCachedUsersOnly() {
+		when(repository.findUnreadCount(1L)).thenReturn(Optional.of(4L));
+		counter.get(1L);
+
+		counter.recordInserted(() -> Map.of(1L, 2, 2L, 5));
+
+		assertThat(counter.get(1L)).isEqualTo(6);
+		when(repository.findUnreadCount(2L)).thenReturn(Optional.of(5L));
+		assertThat(counter.get(2L)).isEqualTo(5);
+	}
+
+	@Test
+	void markingReadDropsTheCachedCount() {
+		when(repository.findUnreadCount(1L)).thenReturn(Optional.of(4L)).thenReturn(Optional.of(0L));
+		counter.get(1L);
+
+		counter.onNotificationsRead(new NotificationsReadEvent(1L, 0L));
+
+		assertThat(counter.get(1L)).isZero();
+	}
+
+	@Test
+	void usersBeyondTheCacheLimitAreReadThrough() {
+		when(repository.findUnreadCount(1L)).thenReturn(Optional.of(1L));
+		when(repository.findUnreadCount(2L)).thenReturn(Optional.of(2L));
+		when(repository.findUnreadCount(3L)).thenReturn(Optional.of(3L));
+		counter.get(1L);
+		counter.get(2L);
+
+		assertThat(counter.get(3L)).isEqualTo(3);
+		assertThat(counter.get(3L)).isEqualTo(3);
+
+		verify(repository, times(2)).findUnreadCount(3L);
+	}
+
+	@Test
+	void changedCountsAreInvalidatedOnOtherNodes() {
+		counter.recordInserted(() -> Map.of(1L, 2));
+		counter.onNotificationsRead(new NotificationsReadEvent(3L, 0L));
+
+		assertThat(bus.published)
+				.allMatch(message -> message.kind() == NotificationBusMessage.Kind.UNREAD_COUNT_INVALIDATED)
+				.flatExtracting(NotificationBusMessage::userIds)
+				.containsExactly(1L, 3L);
+	}
+
+	@Test
+	void invalidationsFromOtherNodesDropTheCachedCount() {
+		when(repository.findUnreadCount(1L)).thenReturn(Optional.of(4L)).thenReturn(Optional.of(7L));
+		counter.get(1L);
+
+		bus.deliver(NotificationBusMessage.invalidated(NotificationBusMessage.Kind.UNREAD_COUNT_INVALIDATED, "other", List.of(1L)));
+
+		assertThat(counter.get(1L)).isEqualTo(7);
+	}
+
+	private static final class RecordingBus implements NotificationBus {
+
+		private final List<NotificationBusMessage> published = new ArrayList<>();
+		private final List<Consumer<NotificationBusMessage>> subscribers = new ArrayList<>();
+
+		@Override
+		public String nodeId() {
+			return "test";
+		}
+
+		@Override
+		public void publish(NotificationBusMessage message) {
+			published.add(message);
+		}
+
+		@Override
+		public void subscribe(Consumer<NotificationBusMessage> subscriber) {
+			subscribers.add(subscriber);
+		}
+
+		void deliver(NotificationBusMessage message) {
+			subscribers.forEach(subscriber -> subscriber.accept(message));
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package com.TalentForge.talentforge.notification.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class NotificationSessionSenderTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ExecutorService sendPool = Executors.newSingleThreadExecutor();
+	private final ExecutorService closer = Executors.newSingleThreadExecutor();
+
+	@AfterEach
+	void shutdown() {
+		sendPool.shutdownNow();
+		closer.shutdownNow();
+	}
+
+	@Test
+	void queuedCountUpdatesCoalesceAndOverflowDropsTheOldest() {
+		WebSocketSession session = openSession();
+		List<Runnable> scheduled = new ArrayList<>();
+		NotificationSessionSender sender = new NotificationSessionSender(session, scheduled::add, Runnable::run, meterRegistry, 2, 1000);
+
+		sender.offer("count-1", true);
+		sender.offer("count-2", true);
+		assertThat(sender.depth()).isEqualTo(1);
+
+		sender.offer("created-1", false);
+		sender.offer("created-2", false);
+		assertThat(sender.depth()).isEqualTo(2);
+		assertThat(messages("coalesced")).isEqualTo(1);
+		assertThat(messages("dropped_overflow")).isEqualTo(1);
+		assertThat(scheduled).hasSize(1);
+	}
+
+	@Test
+	void stuckBlockingSendIsClosedOffTheSendPool() throws Exception {
+		WebSocketSession session = openSession();
+		CountDownLatch sending = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			sending.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(session).sendMessage(any(TextMessage.class));
+		NotificationSessionSender sender = new NotificationSessionSender(session, sendPool, closer, meterRegistry, 8, 10_000);
+
+		sender.offer("created-1", false);
+		assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(sender.closeIfStuck(System.currentTimeMillis())).isFalse();
+
+		assertThat(sender.closeIfStuck(System.currentTimeMillis() + 20_000)).isTrue();
+		verify(session, timeout(2000)).close(any(CloseStatus.class));
+		release.countDown();
+
+		sender.offer("created-2", false);
+		assertThat(messages("dropped_slow_client")).isEqualTo(1);
+	}
+
+	@Test
+	void asyncSendsGoOutOneAtATimeWithoutHoldingAPoolThread() throws Exception {
+		RemoteEndpoint.Async remote = mock(RemoteEndpoint.Async.class);
+		List<SendHandler> pending = new ArrayList<>();
+		doAnswer(invocation -> {
+			synchronized (pending) {
+				pending.add(invocation.getArgument(1));
+			}
+			return null;
+		}).when(remote).sendText(anyString(), any(SendHandler.class));
+		WebSocketSession session = nativeSession(remote);
+		NotificationSessionSender sender = new NotificationSessionSender(session, sendPool, closer, meterRegistry, 8, 1000);
+
+		sender.offer("created-1", false);
+		sender.offer("created-2", false);
+		verify(remote, timeout(2000)).sendText(eq("created-1"), any(SendHandler.class));
+		assertThat(sendPool.submit(() -> true).get(1, TimeUnit.SECONDS)).isTrue();
+		verify(remote, never()).sendText(eq("created-2"), any(SendHandler.class));
+
+		synchronized (pending) {
+			pending.get(0).onResult(new SendResult(mock(Session.class)));
+		}
+		verify(remote, timeout(2000)).sendText(eq("created-2"), any(SendHandler.class));
+		verify(remote).setSendTimeout(1000);
+	}
+
+	@Test
+	void failedAsyncSendClosesTheSession() throws Exception {
+		RemoteEndpoint.Async remote = mock(RemoteEndpoint.Async.class);
+		doAnswer(invocation -> {
+			SendHandler handler = invocation.getArgument(1);
+			handler.onResult(new SendResult(mock(Session.class), new SocketTimeoutException("send timed out")));
+			return null;
+		}).when(remote).sendText(anyString(), any(SendHandler.class));
+		WebSocketSession session = nativeSession(remote);
+		NotificationSessionSender sender = new NotificationSessionSender(session, sendPool, closer, meterRegistry, 8, 1000);
+
+		sender.offer("created-1", false);
+
+		verify(session, timeout(2000)).close(any(CloseStatus.class));
+		assertThat(messages("failed")).isEqualTo(1);
+	}
+
+	private WebSocketSession openSession() {
+		WebSocketSession session = mock(WebSocketSession.class);
+		when(session.isOpen()).thenReturn(true);
+		when(session.getId()).thenReturn("session-1");
+		return session;
+	}
+
+	private WebSocketSession nativeSession(RemoteEndpoint.Async remote) {
+		Session standardSession = mock(Session.class);
+		when(standardSession.getAsyncRemote()).thenReturn(remote);
+		WebSocketSession session = mock(WebSocketSession.class, withSettings().extraInterfaces(NativeWebSocketSession.class));
+		when(session.isOpen()).thenReturn(true);
+		when(session.getId()).thenReturn("session-1");
+		when(((NativeWebSocketSession) session).getNativeSession(Session.class)).thenReturn(standardSession);
+		return session;
+	}
+
+	private double messages(String result) {
+		return meterRegistry.counter("talentforge.notifications.websocket.messages", "result", result).count();
+	}
+}